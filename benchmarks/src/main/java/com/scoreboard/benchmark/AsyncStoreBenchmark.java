@@ -0,0 +1,79 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Backpressure.BLOCK;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.store.AsyncGameStore;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+
+// Create/finish throughput of 8 callers going through the semaphore themselves or through the ring and the applier thread
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class AsyncStoreBenchmark {
+	private InMemoryTwoTeamsGameStore store;
+	private AsyncGameStore asyncStore;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		asyncStore = new AsyncGameStore(store, 4096, BLOCK);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		asyncStore.close();
+	}
+	
+	@State(Scope.Thread)
+	public static class Teams {
+		private int created;
+		private String newTeamPrefix;
+		
+		@Setup(Level.Trial)
+		public void setUp(ThreadParams threads) {
+			newTeamPrefix = "new-" + threads.getThreadIndex() + "-";
+		}
+	}
+	
+	@Benchmark
+	public void createAndFinishGame(Teams teams) {
+		String homeTeamId = teams.newTeamPrefix + (++teams.created);
+		
+		store.createGame(homeTeamId, teams.newTeamPrefix, FOOTBALL);
+		store.finishGame(homeTeamId, teams.newTeamPrefix);
+	}
+	
+	@Benchmark
+	public ResultCode createAndFinishGameAsync(Teams teams) {
+		String homeTeamId = teams.newTeamPrefix + (++teams.created);
+		
+		asyncStore.createGame(homeTeamId, teams.newTeamPrefix, FOOTBALL);
+		CompletableFuture<ResultCode> finished = asyncStore.finishGame(homeTeamId, teams.newTeamPrefix);
+		return finished.join();
+	}
+}
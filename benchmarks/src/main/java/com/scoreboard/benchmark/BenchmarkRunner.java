@@ -0,0 +1,36 @@
+package com.scoreboard.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the selected benchmarks with 1, 2, 4... threads up to the available processors, one JSON result file per thread count
+public final class BenchmarkRunner {
+	private BenchmarkRunner() {
+	}
+	
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : ".*";
+		String resultPrefix = args.length > 1 ? args[1] : "jmh-result";
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		
+		for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+			Options options = new OptionsBuilder()
+					.include(include)
+					.threads(threads)
+					.addProfiler(GCProfiler.class)
+					.resultFormat(ResultFormatType.JSON)
+					.result(resultPrefix + "-threads-" + threads + ".json")
+					.build();
+			
+			new Runner(options).run();
+			
+			if (threads == maxThreads) {
+				break;
+			}
+		}
+	}
+}
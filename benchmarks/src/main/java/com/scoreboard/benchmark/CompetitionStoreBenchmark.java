@@ -0,0 +1,123 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.store.CompetitionGameStore;
+import com.scoreboard.store.CompetitionGameStore.Competition;
+
+// 8 writers updating a board spread over a number of competitions that share 4 workers, and the merged cross-competition reads
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class CompetitionStoreBenchmark {
+	private static final int BOARD_SIZE = 1000;
+	private static final int WORKERS = 4;
+	
+	@Param({ "1", "8", "32" })
+	private int competitions;
+	
+	private CompetitionGameStore store;
+	
+	private Competition[] partitions;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		store = new CompetitionGameStore(GAME_FACTORY, WORKERS, 2L * BOARD_SIZE * CompetitionGameStore.BYTES_PER_GAME);
+		partitions = new Competition[competitions];
+		
+		for (int competition = 0; competition < competitions; competition++) {
+			partitions[competition] = store.competition("competition" + competition);
+		}
+		for (int game = 0; game < BOARD_SIZE; game++) {
+			competitionOf(game).createGame(homeTeamOf(game), awayTeamOf(game), FOOTBALL);
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		store.close();
+	}
+	
+	@State(Scope.Thread)
+	public static class Games {
+		private int first;
+		private int step;
+		private int next;
+		
+		private boolean[] scored;
+		
+		@Setup(Level.Trial)
+		public void setUp(ThreadParams threads) {
+			first = threads.getThreadIndex();
+			step = threads.getThreadCount();
+			next = first;
+			scored = new boolean[BOARD_SIZE];
+		}
+		
+		private int nextGame() {
+			int game = next;
+			
+			next += step;
+			if (next >= BOARD_SIZE) {
+				next = first;
+			}
+			
+			return game;
+		}
+	}
+	
+	@Benchmark
+	public void updateGameScore(Games games) {
+		int game = games.nextGame();
+		
+		games.scored[game] = !games.scored[game];
+		competitionOf(game).updateGameScore(homeTeamOf(game), games.scored[game] ? 1 : 0, awayTeamOf(game), 0);
+	}
+	
+	@Benchmark
+	public List<GameSummary> getTopGames() {
+		return store.getTopGames(10);
+	}
+	
+	@Benchmark
+	public List<String> getGameSummaries() {
+		return store.getGameSummaries();
+	}
+	
+	private Competition competitionOf(int game) {
+		return partitions[game % partitions.length];
+	}
+	
+	private static String homeTeamOf(int game) {
+		return "home" + game;
+	}
+	
+	private static String awayTeamOf(int game) {
+		return "away" + game;
+	}
+}
@@ -0,0 +1,76 @@
+package com.scoreboard.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.TwoTeamsGame;
+import com.scoreboard.store.FootballGame;
+import com.scoreboard.store.PackedFootballGame;
+import com.scoreboard.store.Team;
+
+// All threads hit the same game: FootballGame needs the caller's monitor, PackedFootballGame only its compare-and-set
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ContendedGameBenchmark {
+	@Param({ "FOOTBALL", "PACKED" })
+	private String implementation;
+	
+	private TwoTeamsGame game;
+	
+	private AtomicLong sequence;
+	
+	@Setup
+	public void setUp() {
+		game = implementation.equals("FOOTBALL") ? 
+				new FootballGame(new Team("home"), new Team("away")) : new PackedFootballGame(new Team("home"), new Team("away"));
+		sequence = new AtomicLong();
+	}
+	
+	@Benchmark
+	public ResultCode toggleHomeTeamScore() {
+		if (implementation.equals("FOOTBALL")) {
+			synchronized (game) {
+				return toggle();
+			}
+		}
+		
+		return toggle();
+	}
+	
+	@Benchmark
+	public GameSummary readSummary() {
+		if (implementation.equals("FOOTBALL")) {
+			synchronized (game) {
+				return game.getSummary();
+			}
+		}
+		
+		return game.getSummary();
+	}
+	
+	private ResultCode toggle() {
+		GameSummary current = game.getSummary();
+		return game.tryUpdateScores(current.getHomeTeamScore() ^ 1, 0, sequence.incrementAndGet());
+	}
+}
@@ -0,0 +1,91 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+import com.scoreboard.store.journal.GameJournal;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+	@Param({ "IN_MEMORY", "JOURNAL_NO_SYNC", "JOURNAL_SYNC_EVERY_10MS" })
+	private String mode;
+	
+	private Path directory;
+	
+	private GameJournal journal;
+	
+	private InMemoryTwoTeamsGameStore store;
+	
+	private int homeTeamScore;
+	
+	private int game;
+	
+	@Setup(Level.Iteration)
+	public void setUp() throws IOException {
+		if (mode.equals("IN_MEMORY")) {
+			store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		} else {
+			directory = Files.createTempDirectory("score-board");
+			journal = mode.equals("JOURNAL_NO_SYNC") ? GameJournal.open(directory) : GameJournal.open(directory, 0, 10, MILLISECONDS);
+			store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+		}
+		
+		store.createGame("home", "away", FOOTBALL);
+	}
+	
+	@TearDown(Level.Iteration)
+	public void tearDown() throws IOException {
+		if (journal != null) {
+			journal.close();
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+			journal = null;
+		}
+	}
+	
+	@Benchmark
+	public ResultCode updateGameScore() {
+		homeTeamScore ^= 1;
+		return store.tryUpdateGameScore("home", homeTeamScore, "away", 0);
+	}
+	
+	@Benchmark
+	public void createAndFinishGame() {
+		String homeTeamId = "home" + (++game);
+		
+		store.createGame(homeTeamId, "rival", FOOTBALL);
+		store.finishGame(homeTeamId, "rival");
+	}
+}
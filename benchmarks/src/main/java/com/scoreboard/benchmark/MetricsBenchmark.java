@@ -0,0 +1,58 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+import com.scoreboard.store.metrics.StoreMetrics;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+	@Param({ "DISABLED", "RECORDING" })
+	private String metrics;
+	
+	private InMemoryTwoTeamsGameStore store;
+	
+	private int homeTeamScore;
+	
+	private int game;
+	
+	@Setup
+	public void setUp() {
+		store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, metrics.equals("DISABLED") ? StoreMetrics.DISABLED : StoreMetrics.recording());
+		store.createGame("home", "away", FOOTBALL);
+	}
+	
+	@Benchmark
+	public ResultCode tryUpdateGameScore() {
+		homeTeamScore ^= 1;
+		return store.tryUpdateGameScore("home", homeTeamScore, "away", 0);
+	}
+	
+	@Benchmark
+	public void createAndFinishGame() {
+		String homeTeamId = "home" + (++game);
+		
+		store.createGame(homeTeamId, "rival", FOOTBALL);
+		store.finishGame(homeTeamId, "rival");
+	}
+}
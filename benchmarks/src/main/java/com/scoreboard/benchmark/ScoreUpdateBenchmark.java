@@ -0,0 +1,83 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.TwoTeamsGame;
+import com.scoreboard.store.FootballGame;
+import com.scoreboard.store.PackedFootballGame;
+import com.scoreboard.store.ScoreRules;
+import com.scoreboard.store.SportGame;
+import com.scoreboard.store.Team;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreUpdateBenchmark {
+	// FOOTBALL validates with the predicate chain of FootballGame, RULES with the precompiled ScoreRules table
+	@Param({ "FOOTBALL", "PACKED", "RULES" })
+	private String implementation;
+	
+	private TwoTeamsGame game;
+	
+	private long sequence;
+	
+	private int homeTeamScore;
+	
+	@Setup
+	public void setUp() {
+		switch (implementation) {
+		case "FOOTBALL":
+			game = new FootballGame(new Team("home"), new Team("away"));
+			break;
+		case "PACKED":
+			game = new PackedFootballGame(new Team("home"), new Team("away"));
+			break;
+		default:
+			game = new SportGame(new Team("home"), new Team("away"), ScoreRules.of(FOOTBALL), 0L);
+		}
+	}
+	
+	@Benchmark
+	public ResultCode tryUpdateScoresAccepted() {
+		homeTeamScore ^= 1;
+		return game.tryUpdateScores(homeTeamScore, 0, ++sequence);
+	}
+	
+	@Benchmark
+	public ResultCode tryUpdateScoresRejected() {
+		return game.tryUpdateScores(5, 3, ++sequence);
+	}
+	
+	@Benchmark
+	public void updateScoresAccepted() {
+		homeTeamScore ^= 1;
+		game.updateScores(homeTeamScore, 0, ++sequence);
+	}
+	
+	@Benchmark
+	public Object updateScoresRejected() {
+		try {
+			game.updateScores(5, 3, ++sequence);
+			return null;
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+}
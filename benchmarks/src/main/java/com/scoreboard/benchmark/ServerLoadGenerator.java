@@ -0,0 +1,135 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.scoreboard.server.ScoreboardServer;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+
+// Starts a server on the loopback interface and drives it with 1, 4, 16 and 64 connections, each one owning a game and
+// sending batches of pipelined score updates. Prints the throughput and the p50/p99 latency of a request for every connection count.
+//   java -cp benchmarks/target/benchmarks.jar com.scoreboard.benchmark.ServerLoadGenerator [seconds] [pipelineDepth]
+public final class ServerLoadGenerator {
+	private static final int[] CONNECTIONS = { 1, 4, 16, 64 };
+	
+	private ServerLoadGenerator() {
+	}
+	
+	public static void main(String[] args) throws Exception {
+		int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		int pipelineDepth = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+		
+		for (int connections : CONNECTIONS) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+			
+			try (ScoreboardServer server = ScoreboardServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), store)) {
+				run(server.getPort(), connections, pipelineDepth, seconds);
+			}
+		}
+	}
+	
+	private static void run(int port, int connections, int pipelineDepth, int seconds) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(connections);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<long[]>> results = new ArrayList<>();
+		
+		try {
+			for (int connection = 0; connection < connections; connection++) {
+				int connectionNumber = connection;
+				Callable<long[]> client = () -> {
+					start.await();
+					return drive(port, connectionNumber, pipelineDepth, System.nanoTime() + seconds * 1_000_000_000L);
+				};
+				results.add(executor.submit(client));
+			}
+			
+			long startNanos = System.nanoTime();
+			start.countDown();
+			
+			long[] latencies = new long[0];
+			for (Future<long[]> result : results) {
+				long[] connectionLatencies = result.get();
+				int previous = latencies.length;
+				
+				latencies = Arrays.copyOf(latencies, previous + connectionLatencies.length);
+				System.arraycopy(connectionLatencies, 0, latencies, previous, connectionLatencies.length);
+			}
+			double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+			
+			Arrays.sort(latencies);
+			System.out.println(format("connections=%d depth=%d requests/s=%.0f p50=%dus p99=%dus", connections, pipelineDepth,
+					latencies.length / elapsedSeconds, percentile(latencies, 0.50) / 1_000, percentile(latencies, 0.99) / 1_000));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	// A request's latency goes from sending its batch to reading its response
+	private static long[] drive(int port, int connection, int pipelineDepth, long deadlineNanos) throws IOException {
+		String homeTeamId = "home" + connection;
+		String awayTeamId = "away" + connection;
+		long[] latencies = new long[1 << 16];
+		int count = 0;
+		
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			socket.setTcpNoDelay(true);
+			OutputStream out = socket.getOutputStream();
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+			
+			out.write(("CREATE\t" + homeTeamId + "\t" + awayTeamId + "\tFOOTBALL\n").getBytes(UTF_8));
+			in.readLine();
+			
+			byte[] scored = ("UPDATE\t" + homeTeamId + "\t1\t" + awayTeamId + "\t0\n").getBytes(UTF_8);
+			byte[] cancelled = ("UPDATE\t" + homeTeamId + "\t0\t" + awayTeamId + "\t0\n").getBytes(UTF_8);
+			byte[] batch = new byte[pipelineDepth * Math.max(scored.length, cancelled.length)];
+			
+			boolean goal = true;
+			while (System.nanoTime() < deadlineNanos) {
+				int length = 0;
+				for (int request = 0; request < pipelineDepth; request++) {
+					byte[] update = goal ? scored : cancelled;
+					System.arraycopy(update, 0, batch, length, update.length);
+					length += update.length;
+					goal = !goal;
+				}
+				
+				long sent = System.nanoTime();
+				out.write(batch, 0, length);
+				for (int request = 0; request < pipelineDepth; request++) {
+					in.readLine();
+					
+					if (count == latencies.length) {
+						latencies = Arrays.copyOf(latencies, count * 2);
+					}
+					latencies[count++] = System.nanoTime() - sent;
+				}
+			}
+		}
+		
+		return Arrays.copyOf(latencies, count);
+	}
+	
+	private static long percentile(long[] sortedLatencies, double percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+		return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1)];
+	}
+}
@@ -0,0 +1,111 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import com.scoreboard.store.ShardedTwoTeamsGameStore;
+
+// Throughput of the sharded store with 8 writers, which should grow with the number of shards up to the available cores
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ShardedStoreBenchmark {
+	private static final int BOARD_SIZE = 1000;
+	
+	@Param({ "1", "2", "4", "8" })
+	private int shards;
+	
+	private ShardedTwoTeamsGameStore store;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		store = new ShardedTwoTeamsGameStore(GAME_FACTORY, shards);
+		
+		for (int game = 0; game < BOARD_SIZE; game++) {
+			store.createGame(homeTeamOf(game), awayTeamOf(game), FOOTBALL);
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Games {
+		private int first;
+		private int step;
+		private int next;
+		
+		private boolean[] scored;
+		
+		private int created;
+		private String newTeamPrefix;
+		
+		@Setup(Level.Trial)
+		public void setUp(ThreadParams threads) {
+			first = threads.getThreadIndex();
+			step = threads.getThreadCount();
+			next = first;
+			scored = new boolean[BOARD_SIZE];
+			newTeamPrefix = "new-" + threads.getThreadIndex() + "-";
+		}
+		
+		private int nextGame() {
+			int game = next;
+			
+			next += step;
+			if (next >= BOARD_SIZE) {
+				next = first;
+			}
+			
+			return game;
+		}
+	}
+	
+	@Benchmark
+	public void updateGameScore(Games games) {
+		int game = games.nextGame();
+		
+		games.scored[game] = !games.scored[game];
+		store.updateGameScore(homeTeamOf(game), games.scored[game] ? 1 : 0, awayTeamOf(game), 0);
+	}
+	
+	@Benchmark
+	public void createAndFinishGame(Games games) {
+		String homeTeamId = games.newTeamPrefix + (++games.created);
+		
+		store.createGame(homeTeamId, games.newTeamPrefix, FOOTBALL);
+		store.finishGame(homeTeamId, games.newTeamPrefix);
+	}
+	
+	@Benchmark
+	public List<String> getGameSummaries() {
+		return store.getGameSummaries();
+	}
+	
+	private static String homeTeamOf(int game) {
+		return "home" + game;
+	}
+	
+	private static String awayTeamOf(int game) {
+		return "away" + game;
+	}
+}
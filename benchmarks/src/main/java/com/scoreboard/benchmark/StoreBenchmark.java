@@ -0,0 +1,155 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreBenchmark {
+	private static final int TOP_GAMES = 5;
+	
+	@Param({ "10", "1000", "100000" })
+	private int boardSize;
+	
+	private InMemoryTwoTeamsGameStore store;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		
+		for (int game = 0; game < boardSize; game++) {
+			store.createGame(homeTeamOf(game), awayTeamOf(game), FOOTBALL);
+		}
+	}
+	
+	// Every thread toggles its own slice of the board between 0-0 and 1-0, with more threads than games the slices are shared and some updates are rejected
+	@State(Scope.Thread)
+	public static class Games {
+		private int first;
+		private int step;
+		private int next;
+		
+		private boolean[] scored;
+		
+		private int created;
+		private String newTeamPrefix;
+		
+		@Setup(Level.Trial)
+		public void setUp(StoreBenchmark benchmark, ThreadParams threads) {
+			first = threads.getThreadIndex() % benchmark.boardSize;
+			step = Math.max(1, Math.min(threads.getThreadCount(), benchmark.boardSize));
+			next = first;
+			scored = new boolean[benchmark.boardSize];
+			newTeamPrefix = "new-" + threads.getThreadIndex() + "-";
+		}
+		
+		private int nextGame(int boardSize) {
+			int game = next;
+			
+			next += step;
+			if (next >= boardSize) {
+				next = first;
+			}
+			
+			return game;
+		}
+	}
+	
+	@Benchmark
+	public Object updateGameScore(Games games) {
+		int game = games.nextGame(boardSize);
+		
+		games.scored[game] = !games.scored[game];
+		try {
+			store.updateGameScore(homeTeamOf(game), games.scored[game] ? 1 : 0, awayTeamOf(game), 0);
+			return null;
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+	
+	@Benchmark
+	public void createAndFinishGame(Games games) {
+		String homeTeamId = games.newTeamPrefix + (++games.created);
+		
+		store.createGame(homeTeamId, games.newTeamPrefix, FOOTBALL);
+		store.finishGame(homeTeamId, games.newTeamPrefix);
+	}
+	
+	@Benchmark
+	public List<String> getGameSummaries() {
+		return store.getGameSummaries();
+	}
+	
+	@Benchmark
+	public List<String> getGameSummariesAfterUpdate(Games games) {
+		updateGameScore(games);
+		return store.getGameSummaries();
+	}
+	
+	@Benchmark
+	public List<GameSummary> getTopGames() {
+		return store.getTopGames(TOP_GAMES);
+	}
+	
+	@Benchmark
+	public List<GameSummary> getTopGamesAfterUpdate(Games games) {
+		updateGameScore(games);
+		return store.getTopGames(TOP_GAMES);
+	}
+	
+	@Benchmark
+	public Optional<GameSummary> getGameOf(Games games) {
+		return store.getGameOf(awayTeamOf(games.nextGame(boardSize)));
+	}
+	
+	@Benchmark
+	public List<GameSummary> getGamesWithTotalScoreAtLeast() {
+		return store.getGamesWithTotalScoreAtLeast(1);
+	}
+	
+	@Benchmark
+	public ByteBuffer getEncodedBoard() {
+		return store.getEncodedBoard();
+	}
+	
+	@Benchmark
+	public ByteBuffer getEncodedBoardAfterUpdate(Games games) {
+		updateGameScore(games);
+		return store.getEncodedBoard();
+	}
+	
+	private static String homeTeamOf(int game) {
+		return "home" + game;
+	}
+	
+	private static String awayTeamOf(int game) {
+		return "away" + game;
+	}
+}
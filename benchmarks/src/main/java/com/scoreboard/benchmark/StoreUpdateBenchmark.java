@@ -0,0 +1,59 @@
+package com.scoreboard.benchmark;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+
+// The tryUpdateGameScore path of the store, run it with -prof gc to see what an update allocates besides the game itself:
+// an accepted update moves the game in the last update index and the total score index, a rejected one touches neither
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreUpdateBenchmark {
+	private static final String HOME_TEAM = "home";
+	private static final String AWAY_TEAM = "away";
+	
+	private InMemoryTwoTeamsGameStore store;
+	
+	private int homeTeamScore;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		store.createGame(HOME_TEAM, AWAY_TEAM, FOOTBALL);
+	}
+	
+	@Benchmark
+	public ResultCode tryUpdateGameScoreAccepted() {
+		homeTeamScore ^= 1;
+		return store.tryUpdateGameScore(HOME_TEAM, homeTeamScore, AWAY_TEAM, 0);
+	}
+	
+	@Benchmark
+	public ResultCode tryUpdateGameScoreRejected() {
+		return store.tryUpdateGameScore(HOME_TEAM, 5, AWAY_TEAM, 3);
+	}
+	
+	@Benchmark
+	public ResultCode tryUpdateGameScoreOfANonExistentGame() {
+		return store.tryUpdateGameScore(AWAY_TEAM, 1, HOME_TEAM, 0);
+	}
+}
@@ -0,0 +1,10 @@
+package com.scoreboard;
+
+import java.util.concurrent.CompletableFuture;
+
+// Commands are queued and applied in submission order, the futures complete with the ResultCode of the command
+public interface AsyncGameManagement {
+	CompletableFuture<ResultCode> createGame(String homeTeamId, String awayTeamId, Sports sport);
+	CompletableFuture<ResultCode> updateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore);
+	CompletableFuture<ResultCode> finishGame(String homeTeamId, String awayTeamId);
+}
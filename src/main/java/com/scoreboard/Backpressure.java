@@ -0,0 +1,9 @@
+package com.scoreboard;
+
+// What a caller of AsyncGameManagement gets when the command queue is full
+public enum Backpressure {
+	// The caller is parked until there is room, an interrupt fails the command
+	BLOCK,
+	// The command fails straight away with a RejectedExecutionException
+	FAIL
+}
@@ -0,0 +1,34 @@
+package com.scoreboard;
+
+public final class GameChange {
+	public enum Type {
+		CREATED, SCORE_CHANGED, FINISHED;
+	}
+	
+	private final Type type;
+	private final long sequence;
+	private final GameSummary game;
+	
+	public GameChange(Type type, long sequence, GameSummary game) {
+		this.type = type;
+		this.sequence = sequence;
+		this.game = game;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public GameSummary getGame() {
+		return game;
+	}
+
+	@Override
+	public String toString() {
+		return "GameChange [type=" + type + ", sequence=" + sequence + ", game=" + game + "]";
+	}
+}
@@ -0,0 +1,14 @@
+package com.scoreboard;
+
+@FunctionalInterface
+public interface GameChangeListener {
+	void onChange(GameChange change);
+	
+	// The buffer was full, so the listener should resynchronize from GameQueries.getSnapshot()
+	default void onOverflow(long droppedChanges) {
+	}
+	
+	// onChange or onOverflow threw, the subscription is closed and gets no more changes, so the listener has to subscribe again
+	default void onError(RuntimeException failure) {
+	}
+}
@@ -0,0 +1,12 @@
+package com.scoreboard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public interface GameChanges {
+	Subscription subscribe(GameChangeListener listener, int bufferSize, Executor executor);
+	
+	default Subscription subscribe(GameChangeListener listener, int bufferSize) {
+		return subscribe(listener, bufferSize, ForkJoinPool.commonPool());
+	}
+}
@@ -0,0 +1,65 @@
+package com.scoreboard;
+
+public final class GameCommand {
+	public enum Type {
+		CREATE, UPDATE, FINISH;
+	}
+	
+	private final Type type;
+	private final String homeTeamId;
+	private final int homeTeamScore;
+	private final String awayTeamId;
+	private final int awayTeamScore;
+	private final Sports sport;
+	
+	private GameCommand(Type type, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport) {
+		this.type = type;
+		this.homeTeamId = homeTeamId;
+		this.homeTeamScore = homeTeamScore;
+		this.awayTeamId = awayTeamId;
+		this.awayTeamScore = awayTeamScore;
+		this.sport = sport;
+	}
+	
+	public static GameCommand create(String homeTeamId, String awayTeamId, Sports sport) {
+		return new GameCommand(Type.CREATE, homeTeamId, 0, awayTeamId, 0, sport);
+	}
+	
+	public static GameCommand update(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+		return new GameCommand(Type.UPDATE, homeTeamId, newHomeScore, awayTeamId, newAwayScore, null);
+	}
+	
+	public static GameCommand finish(String homeTeamId, String awayTeamId) {
+		return new GameCommand(Type.FINISH, homeTeamId, 0, awayTeamId, 0, null);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public String getHomeTeamId() {
+		return homeTeamId;
+	}
+
+	public int getHomeTeamScore() {
+		return homeTeamScore;
+	}
+
+	public String getAwayTeamId() {
+		return awayTeamId;
+	}
+
+	public int getAwayTeamScore() {
+		return awayTeamScore;
+	}
+
+	public Sports getSport() {
+		return sport;
+	}
+
+	@Override
+	public String toString() {
+		return "GameCommand [type=" + type + ", homeTeamId=" + homeTeamId + ", homeTeamScore=" + homeTeamScore
+				+ ", awayTeamId=" + awayTeamId + ", awayTeamScore=" + awayTeamScore + ", sport=" + sport + "]";
+	}
+}
@@ -1,17 +1,31 @@
 package com.scoreboard;
 
-import static com.scoreboard.Sports.FOOTBALL;
-import static java.lang.String.format;
-
-import com.scoreboard.store.FootballGame;
+import com.scoreboard.store.ScoreRules;
+import com.scoreboard.store.SportGame;
 import com.scoreboard.store.Team;
 
 public interface GameCreator {
+	static final String NOT_SUPPORTED_SPORT_EXCEPTION = "Not supported Sport: %s";
+	
 	public default TwoTeamsGame createGame(String homeTeamId, String awayTeamId, Sports sport) {
-		if (sport.equals(FOOTBALL)) {
-			return new FootballGame(new Team(homeTeamId), new Team(awayTeamId));
-		}
-		
-		throw new RuntimeException(format("Not supported Sport: %s", sport.name()));
+		return createGame(homeTeamId, awayTeamId, sport, 0L);
+	}
+	
+	public default TwoTeamsGame createGame(String homeTeamId, String awayTeamId, Sports sport, long sequence) {
+		return createGame(new Team(homeTeamId), new Team(awayTeamId), sport, sequence);
+	}
+	
+	// The store passes the interned Team of its TeamRegistry, so games share one Team per team name.
+	// Every sport is validated by the ScoreRules registered for it, which throws for a not supported sport
+	public default TwoTeamsGame createGame(Team homeTeam, Team awayTeam, Sports sport, long sequence) {
+		return new SportGame(homeTeam, awayTeam, ScoreRules.of(sport), sequence);
+	}
+	
+	public default TwoTeamsGame restoreGame(String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport, long sequence) {
+		return restoreGame(new Team(homeTeamId), homeTeamScore, new Team(awayTeamId), awayTeamScore, sport, sequence);
+	}
+	
+	public default TwoTeamsGame restoreGame(Team homeTeam, int homeTeamScore, Team awayTeam, int awayTeamScore, Sports sport, long sequence) {
+		return new SportGame(homeTeam, homeTeamScore, awayTeam, awayTeamScore, ScoreRules.of(sport), sequence);
 	}
 }
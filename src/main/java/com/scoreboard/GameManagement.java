@@ -1,7 +1,11 @@
 package com.scoreboard;
 
+import java.util.List;
+
 public interface GameManagement {
 	void createGame(String homeTeamId, String awayTeamId, Sports sport);
 	void updateGameScore(String homeTeamId, Integer newHomeScore, String awayTeamId, Integer newAwayScore);
+	ResultCode tryUpdateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore);
 	void finishGame(String homeTeamId, String awayTeamId);
+	List<ResultCode> applyBatch(List<GameCommand> commands);
 }
@@ -0,0 +1,49 @@
+package com.scoreboard;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+// A page of games by descending last update, the next page starts before the sequence of the last game of this one. Stores
+// fetch one game past the limit, it is only kept to tell whether there is a next page.
+public final class GamePage {
+	public static final long FIRST_PAGE = Long.MAX_VALUE;
+	public static final long NO_MORE_PAGES = 0L;
+	
+	private static final String INVALID_LIMIT_EXCEPTION = "The limit must be positive, but it was %s";
+	
+	private final List<GameSummary> games;
+	private final long nextCursor;
+	
+	public GamePage(List<GameSummary> fetched, int limit) {
+		this.games = unmodifiableList(fetched.size() > limit ? fetched.subList(0, limit) : fetched);
+		this.nextCursor = fetched.size() > limit ? games.get(limit - 1).getSequence() : NO_MORE_PAGES;
+	}
+	
+	// The number of games to fetch for a page of limit games
+	public static int fetchSizeOf(int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException(format(INVALID_LIMIT_EXCEPTION, limit));
+		}
+		
+		return limit == Integer.MAX_VALUE ? limit : limit + 1;
+	}
+
+	public List<GameSummary> getGames() {
+		return games;
+	}
+
+	public long getNextCursor() {
+		return nextCursor;
+	}
+	
+	public boolean hasMore() {
+		return nextCursor != NO_MORE_PAGES;
+	}
+
+	@Override
+	public String toString() {
+		return "GamePage [games=" + games + ", nextCursor=" + nextCursor + "]";
+	}
+}
@@ -1,7 +1,19 @@
 package com.scoreboard;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface GameQueries {
 	List<String> getGameSummaries();
+	List<GameSummary> getGameSummaryViews();
+	ScoreboardSnapshot getSnapshot();
+	
+	// Both run in O(limit) (plus a log n seek) over the last update index instead of building the whole board
+	List<GameSummary> getTopGames(int limit);
+	GamePage getGamesBefore(long cursor, int limit);
+	
+	// Indexed lookups, their cost depends on the number of games found and not on the size of the board
+	Optional<GameSummary> getGameOf(String teamId);
+	List<GameSummary> getGamesOf(Sports sport);
+	List<GameSummary> getGamesWithTotalScoreAtLeast(int totalScore);
 }
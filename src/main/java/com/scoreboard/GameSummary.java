@@ -0,0 +1,97 @@
+package com.scoreboard;
+
+public final class GameSummary {
+	private final String homeTeamId;
+	private final int homeTeamScore;
+	private final String awayTeamId;
+	private final int awayTeamScore;
+	private final Sports sport;
+	private final long sequence;
+	private final String gameInfo;
+	
+	public GameSummary(String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport, long sequence, String gameInfo) {
+		this.homeTeamId = homeTeamId;
+		this.homeTeamScore = homeTeamScore;
+		this.awayTeamId = awayTeamId;
+		this.awayTeamScore = awayTeamScore;
+		this.sport = sport;
+		this.sequence = sequence;
+		this.gameInfo = gameInfo;
+	}
+
+	public String getHomeTeamId() {
+		return homeTeamId;
+	}
+
+	public int getHomeTeamScore() {
+		return homeTeamScore;
+	}
+
+	public String getAwayTeamId() {
+		return awayTeamId;
+	}
+
+	public int getAwayTeamScore() {
+		return awayTeamScore;
+	}
+
+	public Sports getSport() {
+		return sport;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public String getGameInfo() {
+		return gameInfo;
+	}
+
+	@Override
+	public String toString() {
+		return gameInfo;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((awayTeamId == null) ? 0 : awayTeamId.hashCode());
+		result = prime * result + awayTeamScore;
+		result = prime * result + ((homeTeamId == null) ? 0 : homeTeamId.hashCode());
+		result = prime * result + homeTeamScore;
+		result = prime * result + (int) (sequence ^ (sequence >>> 32));
+		result = prime * result + ((sport == null) ? 0 : sport.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		GameSummary other = (GameSummary) obj;
+		if (awayTeamId == null) {
+			if (other.awayTeamId != null)
+				return false;
+		} else if (!awayTeamId.equals(other.awayTeamId))
+			return false;
+		if (awayTeamScore != other.awayTeamScore)
+			return false;
+		if (homeTeamId == null) {
+			if (other.homeTeamId != null)
+				return false;
+		} else if (!homeTeamId.equals(other.homeTeamId))
+			return false;
+		if (homeTeamScore != other.homeTeamScore)
+			return false;
+		if (sequence != other.sequence)
+			return false;
+		if (sport != other.sport)
+			return false;
+		return true;
+	}
+}
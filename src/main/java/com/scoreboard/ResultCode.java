@@ -0,0 +1,33 @@
+package com.scoreboard;
+
+public enum ResultCode {
+	CREATED(true, "Game created"),
+	UPDATED(true, "Score updated"),
+	FINISHED(true, "Game finished"),
+	TEAM_ALREADY_PLAYING(false, "One of the teams is already playing"),
+	INVALID_GAME(false, "The game can't be created"),
+	NEGATIVE_SCORE(false, "Error scores can't be negative"),
+	INVALID_HOME_TEAM_SCORE(false, "Invalid new homeTeamScore"),
+	INVALID_AWAY_TEAM_SCORE(false, "Invalid new awayTeamScore"),
+	BOTH_TEAMS_SCORED(false, "Invalid score, both teams can't score at the same time"),
+	BOTH_TEAMS_CANCELLED(false, "Invalid score, both teams can't have a cancelled goal at the same time"),
+	SCORE_AND_CANCEL_AT_THE_SAME_TIME(false, "Only one team score can be updated at the same time"),
+	NON_EXISTENT_GAME(false, "The game does not exist"),
+	MEMORY_BUDGET_EXCEEDED(false, "The memory budget for live games is exhausted");
+	
+	private final boolean success;
+	private final String message;
+	
+	private ResultCode(boolean success, String message) {
+		this.success = success;
+		this.message = message;
+	}
+
+	public boolean isSuccess() {
+		return success;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,56 @@
+package com.scoreboard;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.AbstractList;
+import java.util.List;
+
+public final class ScoreboardSnapshot {
+	public static final ScoreboardSnapshot EMPTY = new ScoreboardSnapshot(0L, emptyList());
+	
+	private final long version;
+	private final List<GameSummary> games;
+	private final List<String> gameSummaries;
+	
+	public ScoreboardSnapshot(long version, List<GameSummary> games) {
+		this.version = version;
+		this.games = unmodifiableList(games);
+		this.gameSummaries = new GameInfoList(games);
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public List<GameSummary> getGames() {
+		return games;
+	}
+
+	public List<String> getGameSummaries() {
+		return gameSummaries;
+	}
+
+	@Override
+	public String toString() {
+		return "ScoreboardSnapshot [version=" + version + ", games=" + games + "]";
+	}
+	
+	private static final class GameInfoList extends AbstractList<String> {
+		private final List<GameSummary> games;
+		
+		private GameInfoList(List<GameSummary> games) {
+			this.games = games;
+		}
+
+		@Override
+		public String get(int index) {
+			return games.get(index).getGameInfo();
+		}
+
+		@Override
+		public int size() {
+			return games.size();
+		}
+	}
+}
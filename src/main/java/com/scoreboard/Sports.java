@@ -1,5 +1,6 @@
 package com.scoreboard;
 
 public enum Sports {
-	FOOTBALL;
+	FOOTBALL,
+	BASKETBALL;
 }
@@ -0,0 +1,8 @@
+package com.scoreboard;
+
+public interface Subscription extends AutoCloseable {
+	long getDroppedChanges();
+	
+	@Override
+	void close();
+}
@@ -1,5 +1,32 @@
 package com.scoreboard;
 
+import static com.scoreboard.Sports.FOOTBALL;
+import static java.lang.String.format;
+
+import com.scoreboard.store.PackedFootballGame;
+import com.scoreboard.store.Team;
+
 public enum TwoTeamGameSportsFactory implements GameCreator {
-	GAME_FACTORY;
+	GAME_FACTORY,
+	
+	// Creates lock-free football games whose scores and sequence are updated with a single compare-and-set
+	PACKED_GAME_FACTORY {
+		@Override
+		public TwoTeamsGame createGame(Team homeTeam, Team awayTeam, Sports sport, long sequence) {
+			if (sport.equals(FOOTBALL)) {
+				return new PackedFootballGame(homeTeam, awayTeam, sequence);
+			}
+			
+			throw new RuntimeException(format(NOT_SUPPORTED_SPORT_EXCEPTION, sport.name()));
+		}
+		
+		@Override
+		public TwoTeamsGame restoreGame(Team homeTeam, int homeTeamScore, Team awayTeam, int awayTeamScore, Sports sport, long sequence) {
+			if (sport.equals(FOOTBALL)) {
+				return new PackedFootballGame(homeTeam, homeTeamScore, awayTeam, awayTeamScore, sequence);
+			}
+			
+			throw new RuntimeException(format(NOT_SUPPORTED_SPORT_EXCEPTION, sport.name()));
+		}
+	};
 }
@@ -3,7 +3,15 @@ package com.scoreboard;
 import java.time.LocalDateTime;
 
 public interface TwoTeamsGame {
-	void updateScores(int newHomeTeamScore, int newAwayTeamScore);
+	public default void updateScores(int newHomeTeamScore, int newAwayTeamScore) {
+		updateScores(newHomeTeamScore, newAwayTeamScore, getSequence() + 1);
+	}
+	
+	void updateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence);
+	ResultCode tryUpdateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence);
 	String getGameInfo();
+	GameSummary getSummary();
+	Sports getSport();
+	long getSequence();
 	LocalDateTime getLastUpdated();
 }
@@ -0,0 +1,127 @@
+package com.scoreboard.server;
+
+import static com.scoreboard.GameCommand.create;
+import static com.scoreboard.GameCommand.finish;
+import static com.scoreboard.GameCommand.update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.scoreboard.GameCommand;
+import com.scoreboard.GameManagement;
+import com.scoreboard.GameQueries;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+
+// Requests and responses are lines of tab separated fields, so team names can contain spaces:
+//   CREATE home away sport   UPDATE home homeScore away awayScore   FINISH home away   -> OK <ResultCode> | ERR <ResultCode>
+//   SUMMARY   TOP limit   TEAM team                                                    -> GAMES n, then n lines home homeScore away awayScore sequence
+//   PING                                                                               -> PONG
+// Consecutive writes of a connection are applied with a single applyBatch, a query first flushes the writes before it.
+final class LineProtocol {
+	static final char SEPARATOR = '\t';
+	
+	private static final String OK = "OK";
+	private static final String ERR = "ERR";
+	private static final String GAMES = "GAMES";
+	private static final String PONG = "PONG";
+	private static final String BAD_REQUEST = "BAD_REQUEST";
+	private static final String UNKNOWN_COMMAND = "UNKNOWN_COMMAND";
+	
+	private final GameManagement management;
+	private final GameQueries queries;
+	
+	private final List<GameCommand> pendingWrites;
+	
+	LineProtocol(GameManagement management, GameQueries queries) {
+		this.management = management;
+		this.queries = queries;
+		
+		pendingWrites = new ArrayList<>();
+	}
+	
+	void onLine(String line, StringBuilder responses) {
+		String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+		
+		try {
+			switch (fields[0]) {
+				case "CREATE":
+					expectFields(fields, 4);
+					pendingWrites.add(create(fields[1], fields[2], Sports.valueOf(fields[3])));
+					break;
+				case "UPDATE":
+					expectFields(fields, 5);
+					pendingWrites.add(update(fields[1], Integer.parseInt(fields[2]), fields[3], Integer.parseInt(fields[4])));
+					break;
+				case "FINISH":
+					expectFields(fields, 3);
+					pendingWrites.add(finish(fields[1], fields[2]));
+					break;
+				case "SUMMARY":
+					expectFields(fields, 1);
+					flushWrites(responses);
+					appendGames(queries.getGameSummaryViews(), responses);
+					break;
+				case "TOP":
+					expectFields(fields, 2);
+					flushWrites(responses);
+					appendGames(queries.getTopGames(Integer.parseInt(fields[1])), responses);
+					break;
+				case "TEAM":
+					expectFields(fields, 2);
+					flushWrites(responses);
+					Optional<GameSummary> game = queries.getGameOf(fields[1]);
+					appendGames(game.isPresent() ? List.of(game.get()) : List.of(), responses);
+					break;
+				case "PING":
+					flushWrites(responses);
+					responses.append(PONG).append('\n');
+					break;
+				default:
+					flushWrites(responses);
+					responses.append(ERR).append(' ').append(UNKNOWN_COMMAND).append('\n');
+			}
+		} catch (IllegalArgumentException e) {
+			flushWrites(responses);
+			responses.append(ERR).append(' ').append(BAD_REQUEST).append('\n');
+		}
+	}
+	
+	// Called once the lines received so far have been handled, so pipelined writes share one batch
+	void flushWrites(StringBuilder responses) {
+		if (pendingWrites.isEmpty()) {
+			return;
+		}
+		
+		List<ResultCode> results;
+		try {
+			results = management.applyBatch(pendingWrites);
+		} finally {
+			pendingWrites.clear();
+		}
+		
+		for (ResultCode result : results) {
+			responses.append(result.isSuccess() ? OK : ERR).append(' ').append(result.name()).append('\n');
+		}
+	}
+	
+	private static void expectFields(String[] fields, int expected) {
+		if (fields.length != expected) {
+			throw new IllegalArgumentException(BAD_REQUEST);
+		}
+	}
+	
+	private static void appendGames(List<GameSummary> games, StringBuilder responses) {
+		responses.append(GAMES).append(' ').append(games.size()).append('\n');
+		
+		for (GameSummary game : games) {
+			responses.append(game.getHomeTeamId()).append(SEPARATOR)
+				.append(game.getHomeTeamScore()).append(SEPARATOR)
+				.append(game.getAwayTeamId()).append(SEPARATOR)
+				.append(game.getAwayTeamScore()).append(SEPARATOR)
+				.append(game.getSequence()).append('\n');
+		}
+	}
+}
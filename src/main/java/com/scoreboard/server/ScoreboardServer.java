@@ -0,0 +1,256 @@
+package com.scoreboard.server;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+import com.scoreboard.GameManagement;
+import com.scoreboard.GameQueries;
+
+// A single selector thread accepts, reads, runs the requests against the store and writes the responses.
+// Everything read in one go is handled before answering, so pipelined requests get their responses in a single write,
+// and a connection is not read again until its pending responses are written.
+public final class ScoreboardServer implements AutoCloseable {
+	static final int MAX_LINE_BYTES = 4096;
+	
+	private static final String LINE_TOO_LONG_RESPONSE = "ERR LINE_TOO_LONG\n";
+	private static final String SERVER_THREAD_NAME = "score-board-server-%s";
+	private static final int READ_BUFFER_BYTES = 64 * 1024;
+	
+	private final GameManagement management;
+	private final GameQueries queries;
+	
+	private final Selector selector;
+	private final ServerSocketChannel serverChannel;
+	private final Thread eventLoop;
+	
+	// Only used from the event loop
+	private final ByteBuffer readBuffer;
+	
+	private volatile boolean running;
+	
+	private ScoreboardServer(InetSocketAddress address, GameManagement management, GameQueries queries) throws IOException {
+		this.management = management;
+		this.queries = queries;
+		
+		selector = Selector.open();
+		serverChannel = ServerSocketChannel.open();
+		serverChannel.bind(address);
+		serverChannel.configureBlocking(false);
+		serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+		
+		readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+		running = true;
+		eventLoop = new Thread(this::runEventLoop, format(SERVER_THREAD_NAME, getPort()));
+		eventLoop.setDaemon(true);
+	}
+	
+	public static <T extends GameManagement & GameQueries> ScoreboardServer start(InetSocketAddress address, T store) {
+		return start(address, store, store);
+	}
+	
+	public static ScoreboardServer start(InetSocketAddress address, GameManagement management, GameQueries queries) {
+		try {
+			ScoreboardServer server = new ScoreboardServer(address, management, queries);
+			server.eventLoop.start();
+			return server;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public int getPort() {
+		return serverChannel.socket().getLocalPort();
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		selector.wakeup();
+		
+		try {
+			eventLoop.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private void runEventLoop() {
+		try {
+			while (running) {
+				selector.select();
+				
+				Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+				while (selected.hasNext()) {
+					SelectionKey key = selected.next();
+					selected.remove();
+					
+					handle(key);
+				}
+			}
+		} catch (IOException | ClosedSelectorException e) {
+			// the server can't go on without its selector
+		} finally {
+			closeAll();
+		}
+	}
+	
+	private void handle(SelectionKey key) {
+		try {
+			if (!key.isValid()) {
+				return;
+			}
+			if (key.isAcceptable()) {
+				accept();
+			} else {
+				if (key.isWritable()) {
+					write(key);
+				}
+				if (key.isValid() && key.isReadable()) {
+					read(key);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			close(key);
+		}
+	}
+	
+	private void accept() throws IOException {
+		SocketChannel channel = serverChannel.accept();
+		if (channel == null) {
+			return;
+		}
+		
+		channel.configureBlocking(false);
+		channel.socket().setTcpNoDelay(true);
+		channel.register(selector, SelectionKey.OP_READ, new Connection(new LineProtocol(management, queries)));
+	}
+	
+	private void read(SelectionKey key) throws IOException {
+		SocketChannel channel = (SocketChannel) key.channel();
+		Connection connection = (Connection) key.attachment();
+		
+		readBuffer.clear();
+		int read = channel.read(readBuffer);
+		if (read < 0) {
+			close(key);
+			return;
+		}
+		
+		readBuffer.flip();
+		boolean open = connection.onBytes(readBuffer);
+		connection.protocol.flushWrites(connection.responses);
+		
+		connection.queueResponses();
+		if (!open) {
+			connection.queue(LINE_TOO_LONG_RESPONSE);
+			connection.closeAfterWrite = true;
+		}
+		write(key);
+	}
+	
+	private void write(SelectionKey key) throws IOException {
+		SocketChannel channel = (SocketChannel) key.channel();
+		Connection connection = (Connection) key.attachment();
+		
+		connection.output.flip();
+		channel.write(connection.output);
+		connection.output.compact();
+		
+		if (connection.output.position() > 0) {
+			// Stop reading until the client takes its responses
+			key.interestOps(SelectionKey.OP_WRITE);
+		} else if (connection.closeAfterWrite) {
+			close(key);
+		} else {
+			key.interestOps(SelectionKey.OP_READ);
+		}
+	}
+	
+	private static void close(SelectionKey key) {
+		key.cancel();
+		try {
+			key.channel().close();
+		} catch (IOException e) {
+			// nothing else to release
+		}
+	}
+	
+	private void closeAll() {
+		for (SelectionKey key : selector.keys()) {
+			close(key);
+		}
+		try {
+			selector.close();
+		} catch (IOException e) {
+			// nothing else to release
+		}
+	}
+	
+	private static final class Connection {
+		private final LineProtocol protocol;
+		
+		private final byte[] line;
+		private int lineLength;
+		
+		private final StringBuilder responses;
+		private ByteBuffer output;
+		
+		private boolean closeAfterWrite;
+		
+		private Connection(LineProtocol protocol) {
+			this.protocol = protocol;
+			
+			line = new byte[MAX_LINE_BYTES];
+			responses = new StringBuilder();
+			output = ByteBuffer.allocate(1024);
+		}
+		
+		// Returns false when a line doesn't fit, the connection is then answered and closed
+		private boolean onBytes(ByteBuffer bytes) {
+			while (bytes.hasRemaining()) {
+				byte next = bytes.get();
+				
+				if (next == '\n') {
+					int length = lineLength > 0 && line[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+					protocol.onLine(new String(line, 0, length, UTF_8), responses);
+					lineLength = 0;
+				} else if (lineLength == MAX_LINE_BYTES) {
+					return false;
+				} else {
+					line[lineLength++] = next;
+				}
+			}
+			return true;
+		}
+		
+		private void queueResponses() {
+			if (responses.length() > 0) {
+				queue(responses.toString());
+				responses.setLength(0);
+			}
+		}
+		
+		private void queue(String text) {
+			byte[] bytes = text.getBytes(UTF_8);
+			
+			if (output.remaining() < bytes.length) {
+				ByteBuffer grown = ByteBuffer.allocate(Math.max(output.capacity() * 2, output.position() + bytes.length));
+				output.flip();
+				grown.put(output);
+				output = grown;
+			}
+			output.put(bytes);
+		}
+	}
+}
@@ -0,0 +1,226 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.Backpressure.BLOCK;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.scoreboard.AsyncGameManagement;
+import com.scoreboard.Backpressure;
+import com.scoreboard.GameCommand;
+import com.scoreboard.GameManagement;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+
+// Callers only enqueue into a bounded ring and park (never block on a monitor), so they are cheap to run on virtual threads.
+// A single applier thread drains the ring and hands what it got to GameManagement.applyBatch, so the store lock is taken once per batch.
+// The futures are completed on the applier thread, dependent stages that do real work should use the *Async methods.
+public final class AsyncGameStore implements AsyncGameManagement, AutoCloseable {
+	private static final String QUEUE_FULL_EXCEPTION = "The command queue is full (%s commands)";
+	private static final String CLOSED_EXCEPTION = "The store is closed";
+	private static final String INTERRUPTED_EXCEPTION = "Interrupted while waiting for room in the command queue";
+	private static final String APPLIER_THREAD_NAME = "score-board-applier";
+	
+	private static final int MAX_BATCH = 256;
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	
+	private final GameManagement store;
+	private final Backpressure backpressure;
+	
+	private final CommandRing<PendingCommand> commands;
+	private final Queue<Thread> waitingProducers;
+	
+	private final Thread applier;
+	private final AtomicBoolean applierParked;
+	private final AtomicInteger producers;
+	private final AtomicLong rejectedCommands;
+	
+	private volatile boolean closed;
+	
+	public AsyncGameStore(GameManagement store, int capacity, Backpressure backpressure) {
+		this.store = store;
+		this.backpressure = backpressure;
+		
+		commands = new CommandRing<>(capacity);
+		waitingProducers = new ConcurrentLinkedQueue<>();
+		applierParked = new AtomicBoolean();
+		producers = new AtomicInteger();
+		rejectedCommands = new AtomicLong();
+		
+		applier = new Thread(this::applyCommands, APPLIER_THREAD_NAME);
+		applier.setDaemon(true);
+		applier.start();
+	}
+
+	@Override
+	public CompletableFuture<ResultCode> createGame(String homeTeamId, String awayTeamId, Sports sport) {
+		return submit(GameCommand.create(homeTeamId, awayTeamId, sport));
+	}
+
+	@Override
+	public CompletableFuture<ResultCode> updateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+		return submit(GameCommand.update(homeTeamId, newHomeScore, awayTeamId, newAwayScore));
+	}
+
+	@Override
+	public CompletableFuture<ResultCode> finishGame(String homeTeamId, String awayTeamId) {
+		return submit(GameCommand.finish(homeTeamId, awayTeamId));
+	}
+	
+	public int getPendingCommands() {
+		return commands.size();
+	}
+	
+	public long getRejectedCommands() {
+		return rejectedCommands.get();
+	}
+	
+	// Commands already queued are still applied, new ones are rejected
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(applier);
+		
+		boolean interrupted = false;
+		while (applier.isAlive()) {
+			try {
+				applier.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private CompletableFuture<ResultCode> submit(GameCommand command) {
+		PendingCommand pending = new PendingCommand(command);
+		
+		producers.incrementAndGet();
+		try {
+			if (closed) {
+				return rejected(pending, new RejectedExecutionException(CLOSED_EXCEPTION));
+			}
+			
+			if (!commands.offer(pending) && !waitForRoom(pending)) {
+				return pending.result;
+			}
+		} finally {
+			producers.decrementAndGet();
+		}
+		
+		wakeUpApplier();
+		return pending.result;
+	}
+	
+	private boolean waitForRoom(PendingCommand pending) {
+		if (backpressure != BLOCK) {
+			rejected(pending, new RejectedExecutionException(format(QUEUE_FULL_EXCEPTION, commands.capacity())));
+			return false;
+		}
+		
+		Thread producer = Thread.currentThread();
+		while (true) {
+			waitingProducers.add(producer);
+			try {
+				if (commands.offer(pending)) {
+					return true;
+				}
+				
+				wakeUpApplier();
+				LockSupport.parkNanos(this, MAX_WAIT_NANOS);
+			} finally {
+				waitingProducers.remove(producer);
+			}
+			
+			if (Thread.interrupted()) {
+				producer.interrupt();
+				rejected(pending, new RejectedExecutionException(INTERRUPTED_EXCEPTION));
+				return false;
+			}
+		}
+	}
+	
+	private CompletableFuture<ResultCode> rejected(PendingCommand pending, RejectedExecutionException exception) {
+		rejectedCommands.incrementAndGet();
+		pending.result.completeExceptionally(exception);
+		return pending.result;
+	}
+	
+	private void wakeUpApplier() {
+		if (applierParked.get() && applierParked.compareAndSet(true, false)) {
+			LockSupport.unpark(applier);
+		}
+	}
+	
+	private void applyCommands() {
+		List<PendingCommand> batch = new ArrayList<>(MAX_BATCH);
+		List<GameCommand> batchCommands = new ArrayList<>(MAX_BATCH);
+		
+		while (true) {
+			if (commands.drainTo(batch, MAX_BATCH) > 0) {
+				wakeUpProducers();
+				apply(batch, batchCommands);
+				batch.clear();
+				batchCommands.clear();
+			} else if (closed && producers.get() == 0 && commands.isEmpty()) {
+				return;
+			} else {
+				applierParked.set(true);
+				if (commands.isEmpty() && !closed) {
+					LockSupport.park(this);
+				}
+				applierParked.set(false);
+			}
+		}
+	}
+	
+	private void apply(List<PendingCommand> batch, List<GameCommand> batchCommands) {
+		for (PendingCommand pending : batch) {
+			batchCommands.add(pending.command);
+		}
+		
+		List<ResultCode> results;
+		try {
+			results = store.applyBatch(batchCommands);
+		} catch (RuntimeException e) {
+			for (PendingCommand pending : batch) {
+				pending.result.completeExceptionally(e);
+			}
+			return;
+		}
+		
+		for (int index = 0; index < batch.size(); index++) {
+			batch.get(index).result.complete(results.get(index));
+		}
+	}
+	
+	private void wakeUpProducers() {
+		for (Thread producer : waitingProducers) {
+			LockSupport.unpark(producer);
+		}
+	}
+	
+	private static final class PendingCommand {
+		private final GameCommand command;
+		private final CompletableFuture<ResultCode> result;
+		
+		private PendingCommand(GameCommand command) {
+			this.command = command;
+			
+			result = new CompletableFuture<>();
+		}
+	}
+}
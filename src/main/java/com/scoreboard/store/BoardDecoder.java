@@ -0,0 +1,104 @@
+package com.scoreboard.store;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.ScoreboardSnapshot;
+import com.scoreboard.Sports;
+
+// Reads the boards written by InMemoryTwoTeamsGameStore.getEncodedBoard()/getEncodedDelta(), keeping the team names it has seen
+public final class BoardDecoder {
+	private static final String INVALID_BOARD_EXCEPTION = "Not an encoded board of type %s";
+	private static final String VERSION_MISMATCH_EXCEPTION = "The delta applies to version %s, but the board is at version %s";
+	private static final Comparator<GameSummary> BY_LAST_UPDATE = Comparator.comparingLong(GameSummary::getSequence).reversed();
+	
+	private static final Sports[] SPORTS = Sports.values();
+	
+	private final Map<Integer, String> teamNames;
+	
+	public BoardDecoder() {
+		teamNames = new HashMap<>();
+	}
+	
+	public ScoreboardSnapshot decode(ByteBuffer board) {
+		expectHeader(board, BoardEncoder.FULL);
+		
+		long version = board.getLong();
+		readTeams(board);
+		
+		return new ScoreboardSnapshot(version, readGames(board));
+	}
+	
+	public ScoreboardSnapshot applyDelta(ScoreboardSnapshot previous, ByteBuffer delta) {
+		expectHeader(delta, BoardEncoder.DELTA);
+		
+		long fromVersion = delta.getLong();
+		long toVersion = delta.getLong();
+		if (fromVersion != previous.getVersion()) {
+			throw new IllegalArgumentException(format(VERSION_MISMATCH_EXCEPTION, fromVersion, previous.getVersion()));
+		}
+		readTeams(delta);
+		
+		Map<GameKey, GameSummary> games = new LinkedHashMap<>();
+		for (GameSummary game : previous.getGames()) {
+			games.put(new GameKey(game.getHomeTeamId(), game.getAwayTeamId()), game);
+		}
+		
+		int removed = delta.getInt();
+		for (int game = 0; game < removed; game++) {
+			games.remove(new GameKey(teamNames.get(delta.getInt()), teamNames.get(delta.getInt())));
+		}
+		for (GameSummary game : readGames(delta)) {
+			games.put(new GameKey(game.getHomeTeamId(), game.getAwayTeamId()), game);
+		}
+		
+		List<GameSummary> board = new ArrayList<>(games.values());
+		board.sort(BY_LAST_UPDATE);
+		return new ScoreboardSnapshot(toVersion, board);
+	}
+	
+	private static void expectHeader(ByteBuffer board, byte type) {
+		if (board.remaining() < Integer.BYTES + Byte.BYTES || board.getInt() != BoardEncoder.MAGIC || board.get() != type) {
+			throw new IllegalArgumentException(format(INVALID_BOARD_EXCEPTION, type));
+		}
+	}
+	
+	private void readTeams(ByteBuffer board) {
+		int count = board.getInt();
+		
+		for (int team = 0; team < count; team++) {
+			int id = board.getInt();
+			byte[] name = new byte[board.getShort() & BoardEncoder.MAX_TEAM_NAME_LENGTH];
+			
+			board.get(name);
+			teamNames.put(id, new String(name, UTF_8));
+		}
+	}
+	
+	private List<GameSummary> readGames(ByteBuffer board) {
+		int count = board.getInt();
+		List<GameSummary> games = new ArrayList<>(count);
+		
+		for (int game = 0; game < count; game++) {
+			Team homeTeam = new Team(teamNames.get(board.getInt()));
+			Team awayTeam = new Team(teamNames.get(board.getInt()));
+			int homeTeamScore = board.getInt();
+			int awayTeamScore = board.getInt();
+			long sequence = board.getLong();
+			Sports sport = SPORTS[board.get()];
+			
+			games.add(new GameSummary(homeTeam.getTeamName(), homeTeamScore, awayTeam.getTeamName(), awayTeamScore, sport, sequence,
+					GameFormat.toString(homeTeam, homeTeamScore, awayTeam, awayTeamScore)));
+		}
+		return games;
+	}
+}
@@ -0,0 +1,181 @@
+package com.scoreboard.store;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.ScoreboardSnapshot;
+
+// Binary board layout, big endian:
+//   full:  MAGIC, FULL, version, teams, games
+//   delta: MAGIC, DELTA, fromVersion, toVersion, teams, removed count + (homeTeam, awayTeam)*, changed games
+//   teams: count + (id int, name length unsigned short, UTF-8 name)*, only the teams the games below refer to
+//   games: count + (homeTeam int, awayTeam int, homeScore int, awayScore int, sequence long, sport byte)*, by descending sequence
+// Team ids are the store's interned ids, which are never reused, so a client can keep its own id to name table between boards.
+final class BoardEncoder {
+	static final int MAGIC = 0x5342_5244;
+	static final byte FULL = 1;
+	static final byte DELTA = 2;
+	
+	static final int GAME_BYTES = 4 * Integer.BYTES + Long.BYTES + Byte.BYTES;
+	static final int REMOVED_GAME_BYTES = 2 * Integer.BYTES;
+	
+	// Names are written after an unsigned short length
+	static final int MAX_TEAM_NAME_LENGTH = 0xFFFF;
+	
+	private static final String TEAM_NAME_TOO_LONG_EXCEPTION = "The team name can't be encoded, it is longer than %s bytes";
+	
+	private static final int FULL_HEADER_BYTES = Integer.BYTES + Byte.BYTES + Long.BYTES;
+	private static final int DELTA_HEADER_BYTES = FULL_HEADER_BYTES + Long.BYTES;
+	
+	private final TeamRegistry teams;
+	
+	BoardEncoder(TeamRegistry teams) {
+		this.teams = teams;
+	}
+	
+	ByteBuffer encode(ScoreboardSnapshot board) {
+		Map<Integer, byte[]> teamNames = teamNamesOf(board.getGames());
+		ByteBuffer encoded = ByteBuffer.allocate(sizeOf(board, teamNames));
+		
+		encode(board, teamNames, encoded);
+		return encoded.flip();
+	}
+	
+	// Writes at the position of the target and returns the number of bytes written, nothing is written if they don't fit
+	int encode(ScoreboardSnapshot board, ByteBuffer target) {
+		Map<Integer, byte[]> teamNames = teamNamesOf(board.getGames());
+		int size = sizeOf(board, teamNames);
+		
+		if (target.remaining() < size) {
+			throw new BufferOverflowException();
+		}
+		encode(board, teamNames, target);
+		return size;
+	}
+	
+	ByteBuffer encodeDelta(ScoreboardSnapshot from, ScoreboardSnapshot to) {
+		Delta delta = new Delta(from, to);
+		ByteBuffer encoded = ByteBuffer.allocate(delta.size());
+		
+		delta.encode(encoded);
+		return encoded.flip();
+	}
+	
+	private void encode(ScoreboardSnapshot board, Map<Integer, byte[]> teamNames, ByteBuffer target) {
+		target.putInt(MAGIC).put(FULL).putLong(board.getVersion());
+		putTeams(teamNames, target);
+		putGames(board.getGames(), target);
+	}
+	
+	private static int sizeOf(ScoreboardSnapshot board, Map<Integer, byte[]> teamNames) {
+		return FULL_HEADER_BYTES + sizeOf(teamNames) + Integer.BYTES + board.getGames().size() * GAME_BYTES;
+	}
+	
+	private Map<Integer, byte[]> teamNamesOf(List<GameSummary> games) {
+		Map<Integer, byte[]> names = new LinkedHashMap<>();
+		
+		for (GameSummary game : games) {
+			names.computeIfAbsent(teams.find(game.getHomeTeamId()), id -> nameOf(game.getHomeTeamId()));
+			names.computeIfAbsent(teams.find(game.getAwayTeamId()), id -> nameOf(game.getAwayTeamId()));
+		}
+		return names;
+	}
+	
+	private static byte[] nameOf(String teamId) {
+		byte[] name = teamId.getBytes(UTF_8);
+		
+		if (name.length > MAX_TEAM_NAME_LENGTH) {
+			throw new IllegalArgumentException(format(TEAM_NAME_TOO_LONG_EXCEPTION, MAX_TEAM_NAME_LENGTH));
+		}
+		return name;
+	}
+	
+	private static int sizeOf(Map<Integer, byte[]> teamNames) {
+		int size = Integer.BYTES;
+		
+		for (byte[] name : teamNames.values()) {
+			size += Integer.BYTES + Short.BYTES + name.length;
+		}
+		return size;
+	}
+	
+	private static void putTeams(Map<Integer, byte[]> teamNames, ByteBuffer target) {
+		target.putInt(teamNames.size());
+		
+		for (Map.Entry<Integer, byte[]> team : teamNames.entrySet()) {
+			target.putInt(team.getKey()).putShort((short) team.getValue().length).put(team.getValue());
+		}
+	}
+	
+	private void putGames(List<GameSummary> games, ByteBuffer target) {
+		target.putInt(games.size());
+		
+		for (GameSummary game : games) {
+			target.putInt(teams.find(game.getHomeTeamId()))
+				.putInt(teams.find(game.getAwayTeamId()))
+				.putInt(game.getHomeTeamScore())
+				.putInt(game.getAwayTeamScore())
+				.putLong(game.getSequence())
+				.put((byte) game.getSport().ordinal());
+		}
+	}
+	
+	// A game is identified by its two teams, it changed if its sequence did
+	private final class Delta {
+		private final ScoreboardSnapshot from;
+		private final ScoreboardSnapshot to;
+		
+		private final List<GameSummary> changed;
+		private final List<GameSummary> removed;
+		private final Map<Integer, byte[]> teamNames;
+		
+		private Delta(ScoreboardSnapshot from, ScoreboardSnapshot to) {
+			this.from = from;
+			this.to = to;
+			
+			Map<GameKey, GameSummary> previous = new HashMap<>();
+			for (GameSummary game : from.getGames()) {
+				previous.put(keyOf(game), game);
+			}
+			
+			changed = new ArrayList<>();
+			for (GameSummary game : to.getGames()) {
+				GameSummary before = previous.remove(keyOf(game));
+				
+				if (before == null || before.getSequence() != game.getSequence()) {
+					changed.add(game);
+				}
+			}
+			removed = new ArrayList<>(previous.values());
+			teamNames = teamNamesOf(changed);
+		}
+		
+		private int size() {
+			return DELTA_HEADER_BYTES + sizeOf(teamNames) + Integer.BYTES + removed.size() * REMOVED_GAME_BYTES + Integer.BYTES + changed.size() * GAME_BYTES;
+		}
+		
+		private void encode(ByteBuffer target) {
+			target.putInt(MAGIC).put(DELTA).putLong(from.getVersion()).putLong(to.getVersion());
+			putTeams(teamNames, target);
+			
+			target.putInt(removed.size());
+			for (GameSummary game : removed) {
+				target.putInt(teams.find(game.getHomeTeamId())).putInt(teams.find(game.getAwayTeamId()));
+			}
+			putGames(changed, target);
+		}
+		
+		private GameKey keyOf(GameSummary game) {
+			return new GameKey(game.getHomeTeamId(), game.getAwayTeamId());
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.scoreboard.store;
+
+import static java.lang.String.format;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.scoreboard.GameChange;
+import com.scoreboard.GameChangeListener;
+import com.scoreboard.Subscription;
+import com.scoreboard.TwoTeamsGame;
+
+// Writers only offer to bounded buffers, the listeners are called from the subscriber's executor
+final class ChangeFeed {
+	private static final String INVALID_BUFFER_SIZE_EXCEPTION = "The buffer size must be positive, but it was %s";
+	private static final int DRAIN_BATCH = 256;
+	
+	private final List<Subscriber> subscribers;
+	
+	ChangeFeed() {
+		subscribers = new CopyOnWriteArrayList<>();
+	}
+	
+	Subscription subscribe(GameChangeListener listener, int bufferSize, Executor executor) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException(format(INVALID_BUFFER_SIZE_EXCEPTION, bufferSize));
+		}
+		
+		Subscriber subscriber = new Subscriber(listener, bufferSize, executor);
+		subscribers.add(subscriber);
+		
+		return subscriber;
+	}
+	
+	void publish(GameChange.Type type, long sequence, TwoTeamsGame game) {
+		if (subscribers.isEmpty()) {
+			return;
+		}
+		
+		GameChange change = new GameChange(type, sequence, game.getSummary());
+		for (Subscriber subscriber : subscribers) {
+			subscriber.offer(change);
+		}
+	}
+	
+	private final class Subscriber implements Subscription, Runnable {
+		private final GameChangeListener listener;
+		private final ArrayBlockingQueue<GameChange> buffer;
+		private final Executor executor;
+		
+		private final AtomicBoolean scheduled;
+		private final AtomicLong pendingOverflow;
+		private final AtomicLong droppedChanges;
+		
+		private volatile boolean closed;
+		
+		private Subscriber(GameChangeListener listener, int bufferSize, Executor executor) {
+			this.listener = listener;
+			this.executor = executor;
+			
+			buffer = new ArrayBlockingQueue<>(bufferSize);
+			scheduled = new AtomicBoolean();
+			pendingOverflow = new AtomicLong();
+			droppedChanges = new AtomicLong();
+		}
+		
+		private void offer(GameChange change) {
+			if (!buffer.offer(change)) {
+				pendingOverflow.incrementAndGet();
+				droppedChanges.incrementAndGet();
+			}
+			
+			schedule();
+		}
+		
+		private void schedule() {
+			if (!closed && scheduled.compareAndSet(false, true)) {
+				try {
+					executor.execute(this);
+				} catch (RejectedExecutionException e) {
+					scheduled.set(false);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				GameChange change;
+				for (int delivered = 0; !closed && delivered < DRAIN_BATCH && (change = buffer.poll()) != null; delivered++) {
+					listener.onChange(change);
+				}
+				
+				// Dropped changes are newer than the buffered ones, so they are reported once those are delivered
+				if (!closed && buffer.isEmpty()) {
+					long overflow = pendingOverflow.getAndSet(0);
+					if (overflow > 0) {
+						listener.onOverflow(overflow);
+					}
+				}
+			} catch (RuntimeException e) {
+				close();
+				failed(e);
+			} finally {
+				scheduled.set(false);
+			}
+			
+			if (!buffer.isEmpty() || pendingOverflow.get() > 0) {
+				schedule();
+			}
+		}
+
+		private void failed(RuntimeException failure) {
+			try {
+				listener.onError(failure);
+			} catch (RuntimeException e) {
+				// Nothing is left to tell, the subscription is already closed
+			}
+		}
+		
+		@Override
+		public long getDroppedChanges() {
+			return droppedChanges.get();
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			subscribers.remove(this);
+			buffer.clear();
+		}
+	}
+}
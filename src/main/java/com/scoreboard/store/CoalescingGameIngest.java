@@ -0,0 +1,280 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NON_EXISTENT_GAME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.scoreboard.GameCommand;
+import com.scoreboard.GameManagement;
+import com.scoreboard.GameQueries;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+
+// Sits in front of a store that only gets its score updates from here. An update that repeats the latest score of its game is
+// dropped with a single map lookup, any other one is validated against that score with the ScoreRules of its sport straight
+// away (so callers still get their rejections) and held for the window. When the window of a game ends only the net change
+// is sent to the store, one update per team when its sport allows the change in one step and otherwise split into allowed
+// changes, so a goal and its cancellation within the window never reach the store or reorder the board. A net change the store
+// still rejects is counted and handed to the RejectionListener, as its caller was already told it was accepted.
+// Creates, finishes and batches go straight to the store after the pending updates of their games.
+public final class CoalescingGameIngest implements GameManagement, AutoCloseable {
+	private static final String NON_EXISTENT_GAME_EXCEPTION = "The game with id: %s does not exist";
+	private static final String INVALID_WINDOW_EXCEPTION = "The window must be positive, but it was %s";
+	private static final String FLUSHER_THREAD_NAME = "score-board-ingest";
+	
+	private final GameManagement store;
+	private final GameQueries queries;
+	private final long windowNanos;
+	
+	private final RejectionListener rejectionListener;
+	
+	private final ConcurrentHashMap<GameKey, PendingScore> pendingScores;
+	private final ScheduledExecutorService flusher;
+	
+	private final LongAdder receivedUpdates;
+	private final LongAdder droppedUpdates;
+	private final LongAdder appliedUpdates;
+	private final LongAdder rejectedUpdates;
+	
+	public <T extends GameManagement & GameQueries> CoalescingGameIngest(T store, long window, TimeUnit unit) {
+		this(store, window, unit, (homeTeamId, newHomeScore, awayTeamId, newAwayScore, result) -> {
+		});
+	}
+	
+	public <T extends GameManagement & GameQueries> CoalescingGameIngest(T store, long window, TimeUnit unit, RejectionListener rejectionListener) {
+		if (window <= 0) {
+			throw new IllegalArgumentException(format(INVALID_WINDOW_EXCEPTION, window));
+		}
+		
+		this.store = store;
+		this.queries = store;
+		this.windowNanos = unit.toNanos(window);
+		this.rejectionListener = rejectionListener;
+		
+		pendingScores = new ConcurrentHashMap<>();
+		flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, FLUSHER_THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		receivedUpdates = new LongAdder();
+		droppedUpdates = new LongAdder();
+		appliedUpdates = new LongAdder();
+		rejectedUpdates = new LongAdder();
+	}
+
+	@Override
+	public void createGame(String homeTeamId, String awayTeamId, Sports sport) {
+		store.createGame(homeTeamId, awayTeamId, sport);
+	}
+
+	@Override
+	public void updateGameScore(String homeTeamId, Integer newHomeScore, String awayTeamId, Integer newAwayScore) {
+		GameKey gameKey = new GameKey(homeTeamId, awayTeamId);
+		PendingScore pending = pendingScoreOf(gameKey);
+		
+		if (pending == null) {
+			throw new RuntimeException(format(NON_EXISTENT_GAME_EXCEPTION, gameKey));
+		}
+		
+		ResultCode result = pending.offer(newHomeScore, newAwayScore);
+		if (result != UPDATED) {
+			throw new RuntimeException(SportGame.getNewScoresError(pending.rules, pending.homeTeamScore(), pending.awayTeamScore(), newHomeScore, newAwayScore));
+		}
+	}
+
+	@Override
+	public ResultCode tryUpdateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+		PendingScore pending = pendingScoreOf(new GameKey(homeTeamId, awayTeamId));
+		
+		return pending == null ? NON_EXISTENT_GAME : pending.offer(newHomeScore, newAwayScore);
+	}
+
+	@Override
+	public void finishGame(String homeTeamId, String awayTeamId) {
+		flush(new GameKey(homeTeamId, awayTeamId), true);
+		store.finishGame(homeTeamId, awayTeamId);
+	}
+
+	@Override
+	public List<ResultCode> applyBatch(List<GameCommand> commands) {
+		for (GameCommand command : commands) {
+			flush(new GameKey(command.getHomeTeamId(), command.getAwayTeamId()), true);
+		}
+		
+		return store.applyBatch(commands);
+	}
+	
+	// Updates of the callers, updates dropped because they repeated the latest score, and updates actually sent to the store
+	public long getReceivedUpdates() {
+		return receivedUpdates.sum();
+	}
+	
+	public long getDroppedUpdates() {
+		return droppedUpdates.sum();
+	}
+	
+	public long getAppliedUpdates() {
+		return appliedUpdates.sum();
+	}
+	
+	// Net changes the store rejected when their window was flushed
+	public long getRejectedUpdates() {
+		return rejectedUpdates.sum();
+	}
+	
+	// Sends every pending update to the store without waiting for their windows
+	public void flush() {
+		for (GameKey gameKey : new ArrayList<>(pendingScores.keySet())) {
+			flush(gameKey, false);
+		}
+	}
+
+	@Override
+	public void close() {
+		flusher.shutdownNow();
+		flush();
+	}
+	
+	private PendingScore pendingScoreOf(GameKey gameKey) {
+		receivedUpdates.increment();
+		
+		PendingScore pending = pendingScores.get(gameKey);
+		if (pending != null) {
+			return pending;
+		}
+		
+		Optional<GameSummary> game = queries.getGameOf(gameKey.getHomeTeamId());
+		if (!game.isPresent() || !game.get().getAwayTeamId().equals(gameKey.getAwayTeamId())) {
+			return null;
+		}
+		
+		PendingScore created = new PendingScore(gameKey, ScoreRules.of(game.get().getSport()), game.get().getHomeTeamScore(), game.get().getAwayTeamScore());
+		pending = pendingScores.putIfAbsent(gameKey, created);
+		return pending != null ? pending : created;
+	}
+	
+	private void flush(GameKey gameKey, boolean forget) {
+		PendingScore pending = forget ? pendingScores.remove(gameKey) : pendingScores.get(gameKey);
+		
+		if (pending != null) {
+			pending.applyNetChange();
+		}
+	}
+	
+	private static long packed(int homeTeamScore, int awayTeamScore) {
+		return (long) homeTeamScore << 32 | awayTeamScore & 0xFFFF_FFFFL;
+	}
+	
+	private final class PendingScore {
+		private final GameKey gameKey;
+		private final ScoreRules rules;
+		
+		// The score the store has, and the score it will have once the window is flushed, read without locking to drop repeats
+		private long applied;
+		private volatile long target;
+		
+		private boolean scheduled;
+		
+		private PendingScore(GameKey gameKey, ScoreRules rules, int homeTeamScore, int awayTeamScore) {
+			this.gameKey = gameKey;
+			this.rules = rules;
+			
+			applied = packed(homeTeamScore, awayTeamScore);
+			target = applied;
+		}
+		
+		private ResultCode offer(int newHomeScore, int newAwayScore) {
+			long offered = packed(newHomeScore, newAwayScore);
+			if (target == offered) {
+				droppedUpdates.increment();
+				return UPDATED;
+			}
+			
+			synchronized (this) {
+				ResultCode result = rules.validate(homeTeamScore(), awayTeamScore(), newHomeScore, newAwayScore);
+				
+				if (result == UPDATED) {
+					target = offered;
+					if (!scheduled) {
+						scheduled = true;
+						flusher.schedule(() -> flush(gameKey, false), windowNanos, TimeUnit.NANOSECONDS);
+					}
+				}
+				return result;
+			}
+		}
+		
+		private synchronized void applyNetChange() {
+			scheduled = false;
+			
+			int homeTeamScore = (int) (applied >> 32);
+			int awayTeamScore = (int) applied;
+			int targetHomeScore = homeTeamScore();
+			int targetAwayScore = awayTeamScore();
+			
+			while (homeTeamScore != targetHomeScore || awayTeamScore != targetAwayScore) {
+				ResultCode result;
+				
+				if (homeTeamScore != targetHomeScore) {
+					int step = rules.stepToward(targetHomeScore - homeTeamScore);
+					homeTeamScore += step;
+					result = step == 0 ? INVALID_HOME_TEAM_SCORE : update(homeTeamScore, awayTeamScore);
+				} else {
+					int step = rules.stepToward(targetAwayScore - awayTeamScore);
+					awayTeamScore += step;
+					result = step == 0 ? INVALID_AWAY_TEAM_SCORE : update(homeTeamScore, awayTeamScore);
+				}
+				
+				if (!result.isSuccess()) {
+					// The game was finished or changed behind our back, the next update reads its score again
+					pendingScores.remove(gameKey, this);
+					rejected(targetHomeScore, targetAwayScore, result);
+					return;
+				}
+				appliedUpdates.increment();
+			}
+			applied = target;
+		}
+		
+		private ResultCode update(int homeTeamScore, int awayTeamScore) {
+			return store.tryUpdateGameScore(gameKey.getHomeTeamId(), homeTeamScore, gameKey.getAwayTeamId(), awayTeamScore);
+		}
+		
+		private void rejected(int newHomeScore, int newAwayScore, ResultCode result) {
+			rejectedUpdates.increment();
+			
+			try {
+				rejectionListener.onRejected(gameKey.getHomeTeamId(), newHomeScore, gameKey.getAwayTeamId(), newAwayScore, result);
+			} catch (RuntimeException e) {
+				// The listener can't stop the flush of the other games
+			}
+		}
+		
+		private int homeTeamScore() {
+			return (int) (target >> 32);
+		}
+		
+		private int awayTeamScore() {
+			return (int) target;
+		}
+	}
+	
+	// Told on the flushing thread about the net score of a game the store rejected, with the reason of the store
+	@FunctionalInterface
+	public interface RejectionListener {
+		void onRejected(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore, ResultCode result);
+	}
+}
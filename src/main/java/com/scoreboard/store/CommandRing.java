@@ -0,0 +1,97 @@
+package com.scoreboard.store;
+
+import static java.lang.String.format;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded multi-producer single-consumer ring: every slot has a sequence telling whether it is free for a position or holds its element,
+// so producers only contend on the tail CAS and the consumer never writes shared counters
+final class CommandRing<T> {
+	private static final String INVALID_CAPACITY_EXCEPTION = "The capacity must be positive, but it was %s";
+	
+	private final AtomicReferenceArray<T> elements;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	
+	private final AtomicLong tail;
+	private volatile long head;
+	
+	CommandRing(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(format(INVALID_CAPACITY_EXCEPTION, capacity));
+		}
+		
+		// With a single slot its "published" and "free for the next lap" sequences would be the same value
+		int size = Math.max(2, Integer.highestOneBit(capacity));
+		if (size < capacity) {
+			size <<= 1;
+		}
+		
+		elements = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int slot = 0; slot < size; slot++) {
+			sequences.set(slot, slot);
+		}
+		mask = size - 1;
+		tail = new AtomicLong();
+	}
+	
+	boolean offer(T element) {
+		long position = tail.get();
+		
+		while (true) {
+			int slot = (int) position & mask;
+			long free = sequences.get(slot) - position;
+			
+			if (free == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements.lazySet(slot, element);
+					sequences.set(slot, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (free < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+	
+	// Only called from the consumer thread
+	int drainTo(List<T> batch, int limit) {
+		long position = head;
+		int drained = 0;
+		
+		while (drained < limit) {
+			int slot = (int) position & mask;
+			if (sequences.get(slot) != position + 1) {
+				break;
+			}
+			
+			batch.add(elements.get(slot));
+			elements.lazySet(slot, null);
+			sequences.set(slot, position + mask + 1);
+			position++;
+			drained++;
+		}
+		
+		head = position;
+		return drained;
+	}
+	
+	boolean isEmpty() {
+		return sequences.get((int) head & mask) != head + 1;
+	}
+	
+	int size() {
+		return (int) Math.max(0, tail.get() - head);
+	}
+	
+	int capacity() {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,441 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCommand.Type.CREATE;
+import static com.scoreboard.ResultCode.MEMORY_BUDGET_EXCEEDED;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.scoreboard.GameCommand;
+import com.scoreboard.GameCreator;
+import com.scoreboard.GameManagement;
+import com.scoreboard.GamePage;
+import com.scoreboard.GameQueries;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.ScoreboardSnapshot;
+import com.scoreboard.Sports;
+
+// Every competition is a partition with its own InMemoryTwoTeamsGameStore, so its teams, lock and indexes are isolated from
+// the other competitions. The writes of a partition run one at a time on a worker pool shared by all of them, live games are
+// charged to one memory budget, and the partitions share one sequence so the cross-competition queries of this store merge
+// their already ordered views instead of sorting the whole board.
+public final class CompetitionGameStore implements GameQueries, AutoCloseable {
+	// Estimated heap of a live game: the game and its summary, its table slot, its last update node and its index entries
+	public static final int BYTES_PER_GAME = 256;
+	
+	private static final String INVALID_WORKERS_EXCEPTION = "The number of workers must be positive, but it was %s";
+	private static final String INVALID_BUDGET_EXCEPTION = "The memory budget must hold at least one game (%s bytes), but it was %s";
+	private static final String MEMORY_BUDGET_EXCEPTION = "Can't create the game %s in %s, the memory budget of %s bytes is exhausted";
+	private static final String WORKER_THREAD_NAME = "score-board-worker-%s";
+	
+	// Writes a partition runs before giving its worker back to the other partitions
+	private static final int WRITES_PER_TURN = 64;
+	
+	private final GameCreator gameFactory;
+	
+	private final WriteSequence sequence;
+	
+	private final ExecutorService workers;
+	
+	private final long memoryBudget;
+	
+	private final AtomicLong reservedBytes;
+	
+	private final Map<String, Competition> competitions;
+	
+	private volatile Competition[] partitions;
+	
+	private volatile MergedSnapshot merged;
+	
+	public CompetitionGameStore(GameCreator gameFactory, int workerCount, long memoryBudget) {
+		if (workerCount <= 0) {
+			throw new IllegalArgumentException(format(INVALID_WORKERS_EXCEPTION, workerCount));
+		}
+		if (memoryBudget < BYTES_PER_GAME) {
+			throw new IllegalArgumentException(format(INVALID_BUDGET_EXCEPTION, BYTES_PER_GAME, memoryBudget));
+		}
+		
+		AtomicInteger threads = new AtomicInteger();
+		
+		this.gameFactory = gameFactory;
+		this.memoryBudget = memoryBudget;
+		
+		sequence = WriteSequence.counting();
+		workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread worker = new Thread(runnable, format(WORKER_THREAD_NAME, threads.getAndIncrement()));
+			worker.setDaemon(true);
+			return worker;
+		});
+		reservedBytes = new AtomicLong();
+		competitions = new ConcurrentHashMap<>();
+		partitions = new Competition[0];
+		merged = MergedSnapshot.EMPTY;
+	}
+	
+	// The partition of a competition, created the first time it is asked for
+	public Competition competition(String competitionId) {
+		Competition competition = competitions.get(competitionId);
+		if (competition != null) {
+			return competition;
+		}
+		
+		synchronized (competitions) {
+			competition = competitions.get(competitionId);
+			
+			if (competition == null) {
+				competition = new Competition(competitionId);
+				
+				Competition[] grown = Arrays.copyOf(partitions, partitions.length + 1);
+				grown[partitions.length] = competition;
+				partitions = grown;
+				competitions.put(competitionId, competition);
+			}
+			return competition;
+		}
+	}
+	
+	public List<String> getCompetitionIds() {
+		List<String> competitionIds = new ArrayList<>();
+		for (Competition competition : partitions) {
+			competitionIds.add(competition.getCompetitionId());
+		}
+		
+		return competitionIds;
+	}
+	
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+	
+	public long getReservedBytes() {
+		return reservedBytes.get();
+	}
+	
+	@Override
+	public List<String> getGameSummaries() {
+		return getSnapshot().getGameSummaries();
+	}
+	
+	@Override
+	public List<GameSummary> getGameSummaryViews() {
+		return getSnapshot().getGames();
+	}
+	
+	// The board of every competition, merged by last update and kept until any competition changes
+	@Override
+	public ScoreboardSnapshot getSnapshot() {
+		Competition[] current = partitions;
+		ScoreboardSnapshot[] sources = new ScoreboardSnapshot[current.length];
+		for (int partition = 0; partition < current.length; partition++) {
+			sources[partition] = current[partition].games.getSnapshot();
+		}
+		
+		MergedSnapshot previous = merged;
+		if (previous.isMergeOf(sources)) {
+			return previous.getSnapshot();
+		}
+		
+		MergedSnapshot rebuilt = MergedSnapshot.of(sources);
+		if (previous.getSnapshot().getVersion() <= rebuilt.getSnapshot().getVersion()) {
+			merged = rebuilt;
+		}
+		
+		return rebuilt.getSnapshot();
+	}
+	
+	@Override
+	public List<GameSummary> getTopGames(int limit) {
+		return getGamesBefore(GamePage.FIRST_PAGE, limit).getGames();
+	}
+	
+	// Every competition returns at most limit + 1 games before the cursor, so the merged page only looks at competitions * (limit + 1) games
+	// and still knows whether there is a next page
+	@Override
+	public GamePage getGamesBefore(long cursor, int limit) {
+		int fetched = GamePage.fetchSizeOf(limit);
+		Competition[] current = partitions;
+		List<List<GameSummary>> pages = new ArrayList<>(current.length);
+		for (Competition competition : current) {
+			pages.add(competition.games.gamesBefore(cursor, fetched));
+		}
+		
+		return new GamePage(SummaryMerge.byLastUpdate(pages, fetched), limit);
+	}
+	
+	// A team may play in several competitions at once, its most recently updated game is returned
+	@Override
+	public Optional<GameSummary> getGameOf(String teamId) {
+		Optional<GameSummary> latest = Optional.empty();
+		
+		for (Competition competition : partitions) {
+			Optional<GameSummary> game = competition.games.getGameOf(teamId);
+			
+			if (game.isPresent() && (!latest.isPresent() || game.get().getSequence() > latest.get().getSequence())) {
+				latest = game;
+			}
+		}
+		
+		return latest;
+	}
+	
+	@Override
+	public List<GameSummary> getGamesOf(Sports sport) {
+		Competition[] current = partitions;
+		List<List<GameSummary>> games = new ArrayList<>(current.length);
+		for (Competition competition : current) {
+			games.add(competition.games.getGamesOf(sport));
+		}
+		
+		return SummaryMerge.byLastUpdate(games);
+	}
+	
+	@Override
+	public List<GameSummary> getGamesWithTotalScoreAtLeast(int totalScore) {
+		Competition[] current = partitions;
+		List<List<GameSummary>> games = new ArrayList<>(current.length);
+		for (Competition competition : current) {
+			games.add(competition.games.getGamesWithTotalScoreAtLeast(totalScore));
+		}
+		
+		return SummaryMerge.byLastUpdate(games);
+	}
+	
+	@Override
+	public void close() {
+		workers.shutdown();
+	}
+	
+	private boolean reserve(int games) {
+		long bytes = (long) games * BYTES_PER_GAME;
+		
+		for (;;) {
+			long reserved = reservedBytes.get();
+			if (reserved + bytes > memoryBudget) {
+				return false;
+			}
+			if (reservedBytes.compareAndSet(reserved, reserved + bytes)) {
+				return true;
+			}
+		}
+	}
+	
+	private void release(int games) {
+		if (games != 0) {
+			reservedBytes.addAndGet(-(long) games * BYTES_PER_GAME);
+		}
+	}
+	
+	private static <T> T await(FutureTask<T> result) {
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+	
+	@FunctionalInterface
+	private interface PartitionWrite<T> {
+		T apply(boolean reserved);
+	}
+	
+	public final class Competition implements GameManagement, GameQueries {
+		private final String competitionId;
+		
+		private final InMemoryTwoTeamsGameStore games;
+		
+		// Writes waiting for their turn, at most one worker drains them at a time
+		private final Queue<FutureTask<?>> pendingWrites;
+		
+		private final AtomicBoolean draining;
+		
+		private Competition(String competitionId) {
+			this.competitionId = competitionId;
+			
+			games = new InMemoryTwoTeamsGameStore(gameFactory, sequence);
+			pendingWrites = new ConcurrentLinkedQueue<>();
+			draining = new AtomicBoolean();
+		}
+		
+		public String getCompetitionId() {
+			return competitionId;
+		}
+		
+		@Override
+		public void createGame(String homeTeamId, String awayTeamId, Sports sport) {
+			write(1, reserved -> {
+				if (!reserved) {
+					throw new RuntimeException(format(MEMORY_BUDGET_EXCEPTION, new GameKey(homeTeamId, awayTeamId), competitionId, memoryBudget));
+				}
+				
+				games.createGame(homeTeamId, awayTeamId, sport);
+				return null;
+			});
+		}
+		
+		@Override
+		public void updateGameScore(String homeTeamId, Integer newHomeScore, String awayTeamId, Integer newAwayScore) {
+			write(0, reserved -> {
+				games.updateGameScore(homeTeamId, newHomeScore, awayTeamId, newAwayScore);
+				return null;
+			});
+		}
+		
+		@Override
+		public ResultCode tryUpdateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+			return write(0, reserved -> games.tryUpdateGameScore(homeTeamId, newHomeScore, awayTeamId, newAwayScore));
+		}
+		
+		@Override
+		public void finishGame(String homeTeamId, String awayTeamId) {
+			write(0, reserved -> {
+				games.finishGame(homeTeamId, awayTeamId);
+				return null;
+			});
+		}
+		
+		// The creates of a batch are charged together, if the budget can't hold all of them they are rejected and the rest runs
+		@Override
+		public List<ResultCode> applyBatch(List<GameCommand> commands) {
+			int creates = 0;
+			for (GameCommand command : commands) {
+				if (command.getType() == CREATE) {
+					creates++;
+				}
+			}
+			
+			return write(creates, reserved -> {
+				if (reserved) {
+					return games.applyBatch(commands);
+				}
+				
+				List<GameCommand> accepted = new ArrayList<>(commands.size());
+				for (GameCommand command : commands) {
+					if (command.getType() != CREATE) {
+						accepted.add(command);
+					}
+				}
+				
+				List<ResultCode> acceptedResults = accepted.isEmpty() ? Collections.emptyList() : games.applyBatch(accepted);
+				List<ResultCode> results = new ArrayList<>(commands.size());
+				int next = 0;
+				for (GameCommand command : commands) {
+					results.add(command.getType() == CREATE ? MEMORY_BUDGET_EXCEEDED : acceptedResults.get(next++));
+				}
+				return results;
+			});
+		}
+		
+		@Override
+		public List<String> getGameSummaries() {
+			return games.getGameSummaries();
+		}
+		
+		@Override
+		public List<GameSummary> getGameSummaryViews() {
+			return games.getGameSummaryViews();
+		}
+		
+		@Override
+		public ScoreboardSnapshot getSnapshot() {
+			return games.getSnapshot();
+		}
+		
+		@Override
+		public List<GameSummary> getTopGames(int limit) {
+			return games.getTopGames(limit);
+		}
+		
+		@Override
+		public GamePage getGamesBefore(long cursor, int limit) {
+			return games.getGamesBefore(cursor, limit);
+		}
+		
+		@Override
+		public Optional<GameSummary> getGameOf(String teamId) {
+			return games.getGameOf(teamId);
+		}
+		
+		@Override
+		public List<GameSummary> getGamesOf(Sports sport) {
+			return games.getGamesOf(sport);
+		}
+		
+		@Override
+		public List<GameSummary> getGamesWithTotalScoreAtLeast(int totalScore) {
+			return games.getGamesWithTotalScoreAtLeast(totalScore);
+		}
+		
+		// Writes of one partition never overlap, so the change in its live games is exactly what the write did to the budget
+		private <T> T write(int creates, PartitionWrite<T> write) {
+			Callable<T> call = () -> {
+				boolean reserved = creates > 0 && reserve(creates);
+				int before = games.getLiveGames();
+				
+				try {
+					return write.apply(reserved);
+				} finally {
+					release((reserved ? creates : 0) - (games.getLiveGames() - before));
+				}
+			};
+			
+			FutureTask<T> task = new FutureTask<>(call);
+			pendingWrites.add(task);
+			schedule();
+			
+			return await(task);
+		}
+		
+		private void schedule() {
+			if (!pendingWrites.isEmpty() && draining.compareAndSet(false, true)) {
+				try {
+					workers.execute(this::drain);
+				} catch (RejectedExecutionException e) {
+					// The store was closed, nobody will run the waiting writes
+					draining.set(false);
+					for (FutureTask<?> task = pendingWrites.poll(); task != null; task = pendingWrites.poll()) {
+						task.cancel(false);
+					}
+				}
+			}
+		}
+		
+		private void drain() {
+			try {
+				for (int write = 0; write < WRITES_PER_TURN; write++) {
+					FutureTask<?> task = pendingWrites.poll();
+					if (task == null) {
+						break;
+					}
+					task.run();
+				}
+			} finally {
+				draining.set(false);
+				schedule();
+			}
+		}
+	}
+}
@@ -1,15 +1,28 @@
 package com.scoreboard.store;
 
+import static com.scoreboard.ResultCode.BOTH_TEAMS_CANCELLED;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NEGATIVE_SCORE;
+import static com.scoreboard.ResultCode.SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
 import static java.lang.Integer.compare;
 import static java.lang.String.format;
-import static java.time.LocalDateTime.now;
-import static java.util.Optional.ofNullable;
+import static java.time.Instant.ofEpochMilli;
+import static java.time.ZoneId.systemDefault;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
 import com.scoreboard.TwoTeamsGame;
 
+// The original football game validating updates with a chain of predicates. The factories create a SportGame with the
+// football ScoreRules instead, it is kept for its callers and as the baseline the rules table is benchmarked against.
+@Deprecated
 public class FootballGame implements TwoTeamsGame {
 	private static final String UPDATE_AT_THE_SAME_TIME_EXCEPTION = "Only one team score can be updated at the same time";
 	private static final String CANCEL_GOAL_AT_THE_SAME_TIME_EXCEPTION = "Invalid score, both teams can't have a cancelled goal at the same time";
@@ -30,59 +43,90 @@ public class FootballGame implements TwoTeamsGame {
 	private final Team awayTeam;
 	private int awayTeamScore;
 	
-	private LocalDateTime lastUpdated;
+	private long sequence;
+	
+	private long lastUpdatedMillis;
+	
+	private GameSummary summary;
 	
 	public FootballGame(Team homeTeam, Team awayTeam) {
+		this(homeTeam, awayTeam, 0L);
+	}
+	
+	public FootballGame(Team homeTeam, Team awayTeam, long sequence) {
+		this(homeTeam, INITIAL_SCORE, awayTeam, INITIAL_SCORE, sequence);
+	}
+	
+	public FootballGame(Team homeTeam, int homeTeamScore, Team awayTeam, int awayTeamScore, long sequence) {
 		if (homeTeam.getTeamName().equals(awayTeam.getTeamName())) {
 			throw new RuntimeException(CONSTRUCTOR_EXCEPTION);
 		}
 		
+		if (homeTeamScore < 0 || awayTeamScore < 0) {
+			throw new RuntimeException(format(NEGATIVE_SCORE_EXCEPTION, homeTeamScore, awayTeamScore));
+		}
+		
 		this.homeTeam = homeTeam;
 		this.awayTeam = awayTeam;
 		
-		setInitalScore();
+		setScore(homeTeamScore, awayTeamScore, sequence);
 	}
 
 	@Override
-	public void updateScores(int newHomeTeamScore, int newAwayTeamScore) {
-		if (newHomeTeamScore < 0 || newAwayTeamScore < 0) {
-			throw new RuntimeException(format(NEGATIVE_SCORE_EXCEPTION, newHomeTeamScore, newAwayTeamScore));
+	public void updateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence) {
+		if (tryUpdateScores(newHomeTeamScore, newAwayTeamScore, sequence) != UPDATED) {
+			throw new RuntimeException(getNewScoresError(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore));
 		}
+	}
+	
+	@Override
+	public ResultCode tryUpdateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence) {
+		ResultCode result = validateNewScores(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore);
 		
-		getNewScoresError(newHomeTeamScore, newAwayTeamScore).ifPresent(newScoresError -> {
-			throw new RuntimeException(newScoresError.toString());
-		});
+		if (result == UPDATED) {
+			homeTeamScore = newHomeTeamScore;	
+			awayTeamScore = newAwayTeamScore;
+			stamp(sequence);
+		}
 		
-		homeTeamScore = newHomeTeamScore;	
-		awayTeamScore = newAwayTeamScore;
-		lastUpdated = now();
+		return result;
 	}
 
 	@Override
 	public String getGameInfo() {
-		return toString();
+		return getSummary().getGameInfo();
+	}
+	
+	@Override
+	public GameSummary getSummary() {
+		GameSummary current = summary;
+		
+		if (current == null || current.getSequence() != sequence) {
+			current = new GameSummary(homeTeam.getTeamName(), homeTeamScore, awayTeam.getTeamName(), awayTeamScore, FOOTBALL, sequence, toString());
+			summary = current;
+		}
+		
+		return current;
+	}
+	
+	@Override
+	public Sports getSport() {
+		return FOOTBALL;
+	}
+	
+	@Override
+	public long getSequence() {
+		return sequence;
 	}
 	
 	@Override
 	public LocalDateTime getLastUpdated() {
-		return lastUpdated;
+		return LocalDateTime.ofInstant(ofEpochMilli(lastUpdatedMillis), systemDefault());
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder game = new StringBuilder();
-		
-		game.append("Game [homeTeam=");
-		game.append(homeTeam.toString());
-		game.append(", homeTeamScore=");
-		game.append(homeTeamScore);
-		game.append(", awayTeam=");
-		game.append(awayTeam.toString());
-		game.append(", awayTeamScore=");
-		game.append(awayTeamScore);
-		game.append("]");
-		
-		return game.toString();
+		return GameFormat.toString(homeTeam, homeTeamScore, awayTeam, awayTeamScore);
 	}
 
 	@Override
@@ -116,7 +160,46 @@ public class FootballGame implements TwoTeamsGame {
 		return true;
 	}
 	
-	private Optional<String> getNewScoresError(int newHomeTeamScore, int newAwayTeamScore) {
+	static ResultCode validateNewScores(int homeTeamScore, int awayTeamScore, int newHomeTeamScore, int newAwayTeamScore) {
+		if (newHomeTeamScore < 0 || newAwayTeamScore < 0) {
+			return NEGATIVE_SCORE;
+		}
+		
+		int homeTeamDifference = newHomeTeamScore - homeTeamScore;
+		int awayTeamDifference = newAwayTeamScore - awayTeamScore;
+		
+		if (isNotAValidDifference(homeTeamDifference)) {
+			return INVALID_HOME_TEAM_SCORE;
+		}
+		
+		if (isNotAValidDifference(awayTeamDifference)) {
+			return INVALID_AWAY_TEAM_SCORE;
+		}
+		
+		if (homeTeamDifference == NEW_GOAL && awayTeamDifference == NEW_GOAL) {
+			return BOTH_TEAMS_SCORED;
+		}
+		
+		if (homeTeamDifference == CANCEL_GOAL && awayTeamDifference == CANCEL_GOAL) {
+			return BOTH_TEAMS_CANCELLED;
+		}
+		
+		if (homeTeamDifference != NO_DIFFERENCE_GOAL && awayTeamDifference != NO_DIFFERENCE_GOAL) {
+			return SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+		}
+		
+		return UPDATED;
+	}
+	
+	private static boolean isNotAValidDifference(int difference) {
+		return difference != NO_DIFFERENCE_GOAL && difference != NEW_GOAL && difference != CANCEL_GOAL;
+	}
+	
+	static String getNewScoresError(int homeTeamScore, int awayTeamScore, int newHomeTeamScore, int newAwayTeamScore) {
+		if (newHomeTeamScore < 0 || newAwayTeamScore < 0) {
+			return format(NEGATIVE_SCORE_EXCEPTION, newHomeTeamScore, newAwayTeamScore);
+		}
+		
 		StringBuilder errorMessage = new StringBuilder();
 		
 		if (isNotAValidNewScore(homeTeamScore, newHomeTeamScore)) {
@@ -140,42 +223,47 @@ public class FootballGame implements TwoTeamsGame {
 			errorMessage.append(format(UPDATE_AT_THE_SAME_TIME_EXCEPTION));
 		}
 		
-		return ofNullable(errorMessage.length() > 0 ? errorMessage.toString() : null);
+		return errorMessage.toString();
 	}
 	
-	private boolean isNotAValidNewScore(int oldScore, int newScore) {
+	private static boolean isNotAValidNewScore(int oldScore, int newScore) {
 		return !isAValidNewScore(oldScore, newScore);
 	}
 	
-	private boolean isAValidNewScore(int oldScore, int newScore) {
+	private static boolean isAValidNewScore(int oldScore, int newScore) {
 		return isACancelGoal(oldScore, newScore) ? 
 				isNotInitalScore(oldScore) :
 					isANewGoal(oldScore, newScore) || doesNotChange(oldScore, newScore) ? true : false;
 	}
 	
-	private boolean isACancelGoal(int oldScore, int newScore) {
+	private static boolean isACancelGoal(int oldScore, int newScore) {
 		return compare(newScore - oldScore, CANCEL_GOAL) == 0;
 	}
 	
-	private boolean isANewGoal(int oldScore, int newScore) {
+	private static boolean isANewGoal(int oldScore, int newScore) {
 		return compare(newScore - oldScore, NEW_GOAL) == 0;
 	}
 
-	private boolean doesNotChange(int oldScore, int newScore) {
+	private static boolean doesNotChange(int oldScore, int newScore) {
 		return compare(oldScore - newScore, NO_DIFFERENCE_GOAL) == 0;
 	}
 	
-	private boolean isNotInitalScore(int score) {
+	private static boolean isNotInitalScore(int score) {
 		return !isInitalScore(score);
 	}
 	
-	private boolean isInitalScore(int score) {
+	private static boolean isInitalScore(int score) {
 		return compare(score, INITIAL_SCORE) == 0;
 	}
 	
-	private void setInitalScore() {
-		homeTeamScore = INITIAL_SCORE;
-		awayTeamScore = INITIAL_SCORE;
-		lastUpdated = now();
+	private void setScore(int homeTeamScore, int awayTeamScore, long sequence) {
+		this.homeTeamScore = homeTeamScore;
+		this.awayTeamScore = awayTeamScore;
+		stamp(sequence);
+	}
+	
+	private void stamp(long sequence) {
+		this.sequence = sequence;
+		lastUpdatedMillis = System.currentTimeMillis();
 	}
 }
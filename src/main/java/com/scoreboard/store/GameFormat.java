@@ -0,0 +1,23 @@
+package com.scoreboard.store;
+
+// The text of a two-team game shared by every sport and game layout, and by the games decoded from a board
+final class GameFormat {
+	private GameFormat() {
+	}
+	
+	static String toString(Team homeTeam, int homeTeamScore, Team awayTeam, int awayTeamScore) {
+		StringBuilder game = new StringBuilder();
+		
+		game.append("Game [homeTeam=");
+		game.append(homeTeam.toString());
+		game.append(", homeTeamScore=");
+		game.append(homeTeamScore);
+		game.append(", awayTeam=");
+		game.append(awayTeam.toString());
+		game.append(", awayTeamScore=");
+		game.append(awayTeamScore);
+		game.append("]");
+		
+		return game.toString();
+	}
+}
@@ -0,0 +1,115 @@
+package com.scoreboard.store;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.scoreboard.Sports;
+
+// Secondary indexes of the live games by GameTable key, updated by the store while it holds the game's monitor.
+// The team index is only written under the store lock (create/finish), the score buckets also change on concurrent score updates.
+final class GameIndexes {
+	static final int TOTAL_SCORE_BUCKETS = 16;
+	
+	private volatile AtomicLongArray gameByTeam;
+	
+	private final Map<Sports, Set<Long>> gamesBySport;
+	
+	// The last bucket holds every game with at least TOTAL_SCORE_BUCKETS - 1 goals
+	private final List<Set<Long>> gamesByTotalScore;
+	private final Map<Long, Integer> totalScoreOf;
+	
+	GameIndexes() {
+		gameByTeam = new AtomicLongArray(0);
+		
+		gamesBySport = new EnumMap<>(Sports.class);
+		for (Sports sport : Sports.values()) {
+			gamesBySport.put(sport, ConcurrentHashMap.newKeySet());
+		}
+		
+		gamesByTotalScore = new ArrayList<>(TOTAL_SCORE_BUCKETS);
+		for (int bucket = 0; bucket < TOTAL_SCORE_BUCKETS; bucket++) {
+			gamesByTotalScore.add(ConcurrentHashMap.newKeySet());
+		}
+		totalScoreOf = new ConcurrentHashMap<>();
+	}
+	
+	void added(long gameKey, Sports sport, int totalScore) {
+		markPlaying(GameTable.homeTeamOf(gameKey), gameKey);
+		markPlaying(GameTable.awayTeamOf(gameKey), gameKey);
+		
+		gamesBySport.get(sport).add(gameKey);
+		scoreChanged(gameKey, totalScore);
+	}
+	
+	// A replayed journal can finish a game after its teams were taken by a newer one, so only the entries of this game are cleared
+	void removed(long gameKey) {
+		markFinished(GameTable.homeTeamOf(gameKey), gameKey);
+		markFinished(GameTable.awayTeamOf(gameKey), gameKey);
+		
+		for (Set<Long> games : gamesBySport.values()) {
+			games.remove(gameKey);
+		}
+		Integer totalScore = totalScoreOf.remove(gameKey);
+		if (totalScore != null) {
+			gamesByTotalScore.get(bucketOf(totalScore)).remove(gameKey);
+		}
+	}
+	
+	void scoreChanged(long gameKey, int totalScore) {
+		Integer previous = totalScoreOf.put(gameKey, totalScore);
+		
+		if (previous == null || bucketOf(previous) != bucketOf(totalScore)) {
+			gamesByTotalScore.get(bucketOf(totalScore)).add(gameKey);
+			if (previous != null) {
+				gamesByTotalScore.get(bucketOf(previous)).remove(gameKey);
+			}
+		}
+	}
+	
+	long gameOfTeam(int team) {
+		AtomicLongArray games = gameByTeam;
+		return team >= 0 && team < games.length() ? games.get(team) : GameTable.NO_GAME;
+	}
+	
+	Set<Long> gamesOf(Sports sport) {
+		return gamesBySport.get(sport);
+	}
+	
+	// Games of the last bucket may have fewer goals than asked for, callers check the score of what they get
+	List<Set<Long>> gamesWithTotalScoreAtLeast(int totalScore) {
+		return gamesByTotalScore.subList(bucketOf(Math.max(0, totalScore)), TOTAL_SCORE_BUCKETS);
+	}
+	
+	private void markPlaying(int team, long gameKey) {
+		AtomicLongArray games = gameByTeam;
+		
+		if (team >= games.length()) {
+			AtomicLongArray grown = new AtomicLongArray(Math.max(team + 1, games.length() * 2));
+			
+			for (int index = 0; index < grown.length(); index++) {
+				grown.set(index, index < games.length() ? games.get(index) : GameTable.NO_GAME);
+			}
+			gameByTeam = grown;
+			games = grown;
+		}
+		
+		games.set(team, gameKey);
+	}
+	
+	private void markFinished(int team, long gameKey) {
+		AtomicLongArray games = gameByTeam;
+		
+		if (team < games.length()) {
+			games.compareAndSet(team, gameKey, GameTable.NO_GAME);
+		}
+	}
+	
+	private static int bucketOf(int totalScore) {
+		return Math.min(totalScore, TOTAL_SCORE_BUCKETS - 1);
+	}
+}
@@ -0,0 +1,57 @@
+package com.scoreboard.store;
+
+public final class GameKey {
+	private static final String GAME_ID_SEP = "-";
+	
+	private final String homeTeamId;
+	private final String awayTeamId;
+	
+	public GameKey(String homeTeamId, String awayTeamId) {
+		this.homeTeamId = homeTeamId;
+		this.awayTeamId = awayTeamId;
+	}
+
+	public String getHomeTeamId() {
+		return homeTeamId;
+	}
+
+	public String getAwayTeamId() {
+		return awayTeamId;
+	}
+
+	@Override
+	public String toString() {
+		return homeTeamId + GAME_ID_SEP + awayTeamId;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((awayTeamId == null) ? 0 : awayTeamId.hashCode());
+		result = prime * result + ((homeTeamId == null) ? 0 : homeTeamId.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		GameKey other = (GameKey) obj;
+		if (awayTeamId == null) {
+			if (other.awayTeamId != null)
+				return false;
+		} else if (!awayTeamId.equals(other.awayTeamId))
+			return false;
+		if (homeTeamId == null) {
+			if (other.homeTeamId != null)
+				return false;
+		} else if (!homeTeamId.equals(other.homeTeamId))
+			return false;
+		return true;
+	}
+}
@@ -0,0 +1,173 @@
+package com.scoreboard.store;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.scoreboard.TwoTeamsGame;
+
+// Open addressing on packed (home, away) team ids. Writers are serialized by the store lock, readers never lock.
+// Removed games leave their key behind so concurrent probes don't stop early, those slots are only reused by the same key until a resize drops them.
+public class GameTable {
+	public static final long NO_GAME = -1L;
+	
+	private static final int INITIAL_CAPACITY = 16;
+	
+	@FunctionalInterface
+	public interface KeyedGameConsumer {
+		void accept(long gameKey, TwoTeamsGame game);
+	}
+	
+	private volatile Slots slots;
+	
+	private volatile int size;
+	
+	private int used;
+	
+	public GameTable() {
+		slots = new Slots(INITIAL_CAPACITY);
+	}
+	
+	public static long keyOf(int homeTeam, int awayTeam) {
+		return (long) homeTeam << Integer.SIZE | (awayTeam & 0xFFFFFFFFL);
+	}
+	
+	public static int homeTeamOf(long gameKey) {
+		return (int) (gameKey >>> Integer.SIZE);
+	}
+	
+	public static int awayTeamOf(long gameKey) {
+		return (int) gameKey;
+	}
+	
+	public TwoTeamsGame get(long gameKey) {
+		Slots current = slots;
+		
+		for (int slot = current.indexOf(gameKey); ; slot = current.next(slot)) {
+			long key = current.keys.get(slot);
+			
+			if (key == gameKey) {
+				return current.games.get(slot);
+			}
+			if (key == NO_GAME) {
+				return null;
+			}
+		}
+	}
+	
+	public void put(long gameKey, TwoTeamsGame game) {
+		if ((used + 1) * 2 > slots.capacity()) {
+			resize();
+		}
+		
+		Slots current = slots;
+		for (int slot = current.indexOf(gameKey); ; slot = current.next(slot)) {
+			long key = current.keys.get(slot);
+			
+			if (key == gameKey) {
+				if (current.games.getAndSet(slot, game) == null) {
+					size++;
+				}
+				return;
+			}
+			if (key == NO_GAME) {
+				// The game goes first, so a reader that sees the key also sees the game
+				current.games.set(slot, game);
+				current.keys.set(slot, gameKey);
+				size++;
+				used++;
+				return;
+			}
+		}
+	}
+	
+	public TwoTeamsGame remove(long gameKey) {
+		Slots current = slots;
+		
+		for (int slot = current.indexOf(gameKey); ; slot = current.next(slot)) {
+			long key = current.keys.get(slot);
+			
+			if (key == gameKey) {
+				TwoTeamsGame removed = current.games.getAndSet(slot, null);
+				if (removed != null) {
+					size--;
+				}
+				return removed;
+			}
+			if (key == NO_GAME) {
+				return null;
+			}
+		}
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public void forEach(KeyedGameConsumer consumer) {
+		Slots current = slots;
+		
+		for (int slot = 0; slot < current.capacity(); slot++) {
+			long key = current.keys.get(slot);
+			TwoTeamsGame game = current.games.get(slot);
+			
+			if (key != NO_GAME && game != null) {
+				consumer.accept(key, game);
+			}
+		}
+	}
+	
+	private void resize() {
+		Slots current = slots;
+		Slots resized = new Slots(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, size) * 4 - 1) << 1));
+		
+		for (int slot = 0; slot < current.capacity(); slot++) {
+			TwoTeamsGame game = current.games.get(slot);
+			
+			if (game != null) {
+				resized.insert(current.keys.get(slot), game);
+			}
+		}
+		
+		used = size;
+		slots = resized;
+	}
+	
+	private static final class Slots {
+		private final AtomicLongArray keys;
+		private final AtomicReferenceArray<TwoTeamsGame> games;
+		private final int mask;
+		
+		private Slots(int capacity) {
+			keys = new AtomicLongArray(capacity);
+			games = new AtomicReferenceArray<>(capacity);
+			mask = capacity - 1;
+			
+			for (int slot = 0; slot < capacity; slot++) {
+				keys.set(slot, NO_GAME);
+			}
+		}
+		
+		private int capacity() {
+			return mask + 1;
+		}
+		
+		private int indexOf(long gameKey) {
+			long hash = gameKey * 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ hash >>> Integer.SIZE) & mask;
+		}
+		
+		private int next(int slot) {
+			return (slot + 1) & mask;
+		}
+		
+		private void insert(long gameKey, TwoTeamsGame game) {
+			int slot = indexOf(gameKey);
+			while (keys.get(slot) != NO_GAME) {
+				slot = next(slot);
+			}
+			
+			games.set(slot, game);
+			keys.set(slot, gameKey);
+		}
+	}
+}
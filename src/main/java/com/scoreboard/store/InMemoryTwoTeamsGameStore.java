@@ -1,115 +1,790 @@
 package com.scoreboard.store;
 
+import static com.scoreboard.ResultCode.CREATED;
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.ResultCode.INVALID_GAME;
+import static com.scoreboard.ResultCode.NON_EXISTENT_GAME;
+import static com.scoreboard.ResultCode.TEAM_ALREADY_PLAYING;
+import static com.scoreboard.ResultCode.UPDATED;
 import static java.lang.String.format;
-import static java.lang.String.join;
-import static java.util.stream.Collectors.toList;
+import static java.util.Comparator.comparingLong;
+import static java.util.Comparator.reverseOrder;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.scoreboard.GameChange;
+import com.scoreboard.GameChangeListener;
+import com.scoreboard.GameChanges;
+import com.scoreboard.GameCommand;
 import com.scoreboard.GameCreator;
 import com.scoreboard.GameManagement;
+import com.scoreboard.GamePage;
 import com.scoreboard.GameQueries;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.ScoreboardSnapshot;
 import com.scoreboard.Sports;
+import com.scoreboard.Subscription;
 import com.scoreboard.TwoTeamsGame;
+import com.scoreboard.store.archive.GameArchive;
+import com.scoreboard.store.journal.CheckpointReport;
+import com.scoreboard.store.journal.GameJournal;
+import com.scoreboard.store.journal.JournalListener;
+import com.scoreboard.store.journal.RecoveryReport;
+import com.scoreboard.store.metrics.MetricsSnapshot;
+import com.scoreboard.store.metrics.StoreMetrics;
+import com.scoreboard.store.metrics.StoreMetrics.Operation;
 
-public final class InMemoryTwoTeamsGameStore implements GameManagement, GameQueries {
+public final class InMemoryTwoTeamsGameStore implements GameManagement, GameQueries, GameChanges {
 	private static final String NON_EXISTENT_GAME_EXCEPTION = "The game with id: %s does not exist";
-	private static final String GAME_ID_SEP = "-";
+	private static final String NO_JOURNAL_EXCEPTION = "The store has no journal to checkpoint";
+	private static final int CONSISTENT_SNAPSHOT_ATTEMPTS = 64;
+	private static final Comparator<GameSummary> BY_LAST_UPDATE = Comparator.comparingLong(GameSummary::getSequence).reversed();
 	
-	private Map<String, TwoTeamsGame> currentGames;
+	private TeamRegistry teams;
+	
+	private GameTable currentGames;
+	
+	private GameIndexes indexes;
+	
+	private ConcurrentSkipListMap<Long, TwoTeamsGame> gamesByLastUpdate;
+	
+	private WriteSequence sequence;
+	
+	// A snapshot is only consistent if no write started or was in flight while the index was walked
+	private AtomicLong writesStarted;
+	
+	private AtomicLong writesCompleted;
+	
+	private volatile ScoreboardSnapshot snapshot;
+	
+	private BoardEncoder boardEncoder;
+	
+	private volatile EncodedBoard encodedBoard;
 	
 	private GameCreator gameFactory;
 	
+	private GameJournal journal;
+	
+	private GameArchive archive;
+	
+	private RecoveryReport recoveryReport;
+	
+	private ChangeFeed changeFeed;
+	
+	private StoreMetrics metrics;
+	
+	// Only guards createGame/finishGame and batches, score updates are serialized per game
 	private Semaphore lock;
 	
 	public InMemoryTwoTeamsGameStore(GameCreator gameFactory) {
+		this(gameFactory, StoreMetrics.DISABLED);
+	}
+	
+	public InMemoryTwoTeamsGameStore(GameCreator gameFactory, StoreMetrics metrics) {
 		this.gameFactory = gameFactory;
+		this.metrics = metrics;
 		
-		currentGames = new TreeMap<>();
+		teams = new TeamRegistry();
+		currentGames = new GameTable();
+		indexes = new GameIndexes();
+		gamesByLastUpdate = new ConcurrentSkipListMap<>(reverseOrder());
+		sequence = WriteSequence.counting();
+		writesStarted = new AtomicLong();
+		writesCompleted = new AtomicLong();
+		snapshot = ScoreboardSnapshot.EMPTY;
+		boardEncoder = new BoardEncoder(teams);
+		encodedBoard = new EncodedBoard(null, null);
 		lock = new Semaphore(1, true);
+		recoveryReport = RecoveryReport.NONE;
+		changeFeed = new ChangeFeed();
+	}
+	
+	// The shards of a ShardedTwoTeamsGameStore and the partitions of a CompetitionGameStore order their writes across each
+	// other, so their views can be merged by last update
+	InMemoryTwoTeamsGameStore(GameCreator gameFactory, WriteSequence sequence) {
+		this(gameFactory);
+		
+		this.sequence = sequence;
+	}
+	
+	public InMemoryTwoTeamsGameStore(GameCreator gameFactory, GameArchive archive) {
+		this(gameFactory, StoreMetrics.DISABLED, archive);
+	}
+	
+	public InMemoryTwoTeamsGameStore(GameCreator gameFactory, StoreMetrics metrics, GameArchive archive) {
+		this(gameFactory, metrics);
+		
+		this.archive = archive;
+	}
+	
+	public InMemoryTwoTeamsGameStore(GameCreator gameFactory, GameJournal journal) {
+		this(gameFactory, journal, StoreMetrics.DISABLED);
+	}
+	
+	public InMemoryTwoTeamsGameStore(GameCreator gameFactory, GameJournal journal, StoreMetrics metrics) {
+		this(gameFactory, metrics);
+		
+		recoveryReport = journal.recover(new JournalReplay());
+		indexes = new GameIndexes();
+		currentGames.forEach((gameKey, game) -> {
+			GameSummary summary = game.getSummary();
+			indexes.added(gameKey, summary.getSport(), summary.getHomeTeamScore() + summary.getAwayTeamScore());
+		});
+		writesStarted.incrementAndGet();
+		writesCompleted.incrementAndGet();
+		
+		this.journal = journal;
+	}
+	
+	// The journal is replayed before the archive is set, so it only gets the games finished after the store was rebuilt
+	public InMemoryTwoTeamsGameStore(GameCreator gameFactory, GameJournal journal, StoreMetrics metrics, GameArchive archive) {
+		this(gameFactory, journal, metrics);
+		
+		this.archive = archive;
 	}
 
 	@Override
 	public void createGame(String homeTeamId, String awayTeamId, Sports sport) {
+		long start = metrics.start();
+		long acquired = acquireLock(Operation.CREATE, start);
+		ResultCode result = INVALID_GAME;
+		
 		try {
-			lock.acquire();
-			
-			if (noneOfTheTeamsIsAlreadyPlaying(homeTeamId, awayTeamId)) {
-				currentGames.put(gameIdFrom(homeTeamId, awayTeamId), gameFactory.createGame(homeTeamId, awayTeamId, sport));
+			int homeTeam = teams.idOf(homeTeamId);
+			int awayTeam = teams.idOf(awayTeamId);
+			if (noneOfTheTeamsIsAlreadyPlaying(homeTeam, awayTeam)) {
+				TwoTeamsGame game = gameFactory.createGame(teams.teamOf(homeTeam), teams.teamOf(awayTeam), sport, sequence.next());
+				
+				writesStarted.incrementAndGet();
+				try {
+					addGame(GameTable.keyOf(homeTeam, awayTeam), game, sport, 0);
+				} finally {
+					writesCompleted.incrementAndGet();
+				}
+				result = CREATED;
+			} else {
+				result = TEAM_ALREADY_PLAYING;
 			}
-		} catch (InterruptedException e) {
-			throw new RuntimeException(e);
 		} finally {
-			lock.release();
+			releaseLock(acquired);
+			completed(Operation.CREATE, result, start);
 		}
 	}
 
 	@Override
 	public void updateGameScore(String homeTeamId, Integer newHomeScore, String awayTeamId, Integer newAwayScore) {
-		try {
-			lock.acquire();
+		long start = metrics.start();
+		long gameKey = gameKeyOf(homeTeamId, awayTeamId);
+		TwoTeamsGame game = gameOf(gameKey);
+		
+		if (game == null) {
+			completed(Operation.UPDATE, NON_EXISTENT_GAME, start);
+			throw new RuntimeException(format(NON_EXISTENT_GAME_EXCEPTION, new GameKey(homeTeamId, awayTeamId)));
+		}
+		
+		synchronized (game) {
+			long previous = game.getSequence();
 			
-			String gameId = gameIdFrom(homeTeamId, awayTeamId);
-			if (currentGames.containsKey(gameId)) {
-				currentGames.get(gameId).updateScores(newHomeScore, newAwayScore);
-			} else {
-				throw new RuntimeException(format(NON_EXISTENT_GAME_EXCEPTION, gameId));
+			writesStarted.incrementAndGet();
+			long updated = sequence.next();
+			try {
+				game.updateScores(newHomeScore, newAwayScore, updated);
+			} catch (RuntimeException e) {
+				writesStarted.decrementAndGet();
+				// The legacy API only reports the rejection in the exception message, a rejected update changes nothing
+				// so asking the game again under its monitor gives the code to count
+				completed(Operation.UPDATE, game.tryUpdateScores(newHomeScore, newAwayScore, updated), start);
+				throw e;
 			}
-		} catch (InterruptedException e) {
-			throw new RuntimeException(e);
+			
+			try {
+				scoreUpdated(gameKey, game, previous, newHomeScore, newAwayScore);
+			} finally {
+				writesCompleted.incrementAndGet();
+				completed(Operation.UPDATE, UPDATED, start);
+			}
+		}
+	}
+	
+	@Override
+	public ResultCode tryUpdateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+		long start = metrics.start();
+		writesStarted.incrementAndGet();
+		
+		ResultCode result = NON_EXISTENT_GAME;
+		try {
+			result = applyUpdate(gameKeyOf(homeTeamId, awayTeamId), newHomeScore, newAwayScore);
 		} finally {
-			lock.release();
-		}	 
+			completeWrite(result.isSuccess());
+			completed(Operation.UPDATE, result, start);
+		}
+		
+		return result;
 	}
 
 	@Override
 	public void finishGame(String homeTeamId, String awayTeamId) {
+		long start = metrics.start();
+		long acquired = acquireLock(Operation.FINISH, start);
+		ResultCode result = NON_EXISTENT_GAME;
+		
 		try {
-			lock.acquire();
+			long gameKey = gameKeyOf(homeTeamId, awayTeamId);
+			TwoTeamsGame game = gameOf(gameKey);
+			if (game == null) {
+				throw new RuntimeException(format(NON_EXISTENT_GAME_EXCEPTION, new GameKey(homeTeamId, awayTeamId)));
+			}
 			
-			String gameId = gameIdFrom(homeTeamId, awayTeamId);
-			if (currentGames.remove(gameId) == null) {
-				throw new RuntimeException(format(NON_EXISTENT_GAME_EXCEPTION, gameId));
+			writesStarted.incrementAndGet();
+			try {
+				finishGame(gameKey, game);
+			} finally {
+				writesCompleted.incrementAndGet();
 			}
-		} catch (InterruptedException e) {
-			throw new RuntimeException(e);
+			result = FINISHED;
 		} finally {
-			lock.release();
+			releaseLock(acquired);
+			completed(Operation.FINISH, result, start);
 		}		
 	}
 	
+	@Override
+	public List<ResultCode> applyBatch(List<GameCommand> commands) {
+		long start = metrics.start();
+		long acquired = acquireLock(Operation.BATCH, start);
+		List<ResultCode> results = new ArrayList<>(commands.size());
+		boolean anySuccess = false;
+		
+		try {
+			writesStarted.incrementAndGet();
+			
+			try {
+				for (GameCommand command : commands) {
+					ResultCode result = apply(command);
+					
+					anySuccess |= result.isSuccess();
+					results.add(result);
+					metrics.count(result);
+				}
+			} finally {
+				completeWrite(anySuccess);
+			}
+		} finally {
+			releaseLock(acquired);
+			metrics.completed(Operation.BATCH, anySuccess, start);
+		}
+		
+		return results;
+	}
+	
 	@Override
 	public List<String> getGameSummaries() {
+		return getSnapshot().getGameSummaries();
+	}
+	
+	@Override
+	public List<GameSummary> getGameSummaryViews() {
+		return getSnapshot().getGames();
+	}
+	
+	@Override
+	public ScoreboardSnapshot getSnapshot() {
+		ScoreboardSnapshot current = snapshot;
+		if (current.getVersion() == writesCompleted.get()) {
+			return current;
+		}
+		
+		long start = metrics.start();
+		for (int attempt = 0; attempt < CONSISTENT_SNAPSHOT_ATTEMPTS; attempt++) {
+			long completed = writesCompleted.get();
+			
+			if (writesStarted.get() == completed) {
+				List<GameSummary> summaries = walkGamesByLastUpdate(false);
+				
+				if (writesStarted.get() == completed) {
+					ScoreboardSnapshot published = publish(new ScoreboardSnapshot(completed, summaries));
+					
+					metrics.completed(Operation.SNAPSHOT_REBUILD, true, start);
+					return published;
+				}
+			}
+			
+			Thread.onSpinWait();
+		}
+		
+		// Failed rebuilds are the ones that had to fall back to locking every game
+		ScoreboardSnapshot unpublished = new ScoreboardSnapshot(writesCompleted.get(), walkGamesByLastUpdate(true));
+		
+		metrics.completed(Operation.SNAPSHOT_REBUILD, false, start);
+		return unpublished;
+	}
+	
+	@Override
+	public List<GameSummary> getTopGames(int limit) {
+		return getGamesBefore(GamePage.FIRST_PAGE, limit).getGames();
+	}
+	
+	// A published snapshot that is still current is paged with a binary search, otherwise only the games of the page are read from the index
+	@Override
+	public GamePage getGamesBefore(long cursor, int limit) {
+		return new GamePage(gamesBefore(cursor, GamePage.fetchSizeOf(limit)), limit);
+	}
+	
+	// Merged pages of several stores are built from count games of each of them, so they can tell whether there are more
+	List<GameSummary> gamesBefore(long cursor, int count) {
+		ScoreboardSnapshot current = snapshot;
+		if (current.getVersion() == writesCompleted.get()) {
+			return pageOf(current.getGames(), cursor, count);
+		}
+		
+		List<GameSummary> games = new ArrayList<>(Math.min(count, gamesByLastUpdate.size()));
+		for (Entry<Long, TwoTeamsGame> lastUpdate : gamesByLastUpdate.tailMap(cursor, false).entrySet()) {
+			TwoTeamsGame game = lastUpdate.getValue();
+			
+			synchronized (game) {
+				addIfCurrent(games, lastUpdate.getKey(), game);
+			}
+			if (games.size() == count) {
+				break;
+			}
+		}
+		
+		return games;
+	}
+	
+	@Override
+	public Optional<GameSummary> getGameOf(String teamId) {
+		return Optional.ofNullable(currentSummaryOf(indexes.gameOfTeam(teams.find(teamId))));
+	}
+	
+	@Override
+	public List<GameSummary> getGamesOf(Sports sport) {
+		List<GameSummary> games = new ArrayList<>();
+		
+		addCurrentSummaries(games, indexes.gamesOf(sport), 0);
+		games.sort(BY_LAST_UPDATE);
+		return games;
+	}
+	
+	@Override
+	public List<GameSummary> getGamesWithTotalScoreAtLeast(int totalScore) {
+		List<GameSummary> games = new ArrayList<>();
+		
+		for (Set<Long> bucket : indexes.gamesWithTotalScoreAtLeast(totalScore)) {
+			addCurrentSummaries(games, bucket, totalScore);
+		}
+		games.sort(BY_LAST_UPDATE);
+		return games;
+	}
+	
+	// Encoded once per board version, every caller gets its own read-only view of the same bytes to write to a channel
+	public ByteBuffer getEncodedBoard() {
+		ScoreboardSnapshot current = getSnapshot();
+		EncodedBoard cached = encodedBoard;
+		
+		if (cached.snapshot != current) {
+			cached = new EncodedBoard(current, boardEncoder.encode(current).asReadOnlyBuffer());
+			if (current == snapshot) {
+				encodedBoard = cached;
+			}
+		}
+		return cached.bytes.duplicate();
+	}
+	
+	// Encodes the board straight into a buffer owned by the caller (e.g. a reused direct buffer), returns the number of bytes written
+	public int encodeBoard(ByteBuffer target) {
+		return boardEncoder.encode(getSnapshot(), target);
+	}
+	
+	// The changes from a board the caller kept (e.g. the last one sent to a client) to the current one
+	public ByteBuffer getEncodedDelta(ScoreboardSnapshot from) {
+		return boardEncoder.encodeDelta(from, getSnapshot());
+	}
+	
+	@Override
+	public Subscription subscribe(GameChangeListener listener, int bufferSize, Executor executor) {
+		return changeFeed.subscribe(listener, bufferSize, executor);
+	}
+	
+	public CheckpointReport checkpoint() {
+		if (journal == null) {
+			throw new IllegalStateException(NO_JOURNAL_EXCEPTION);
+		}
+		
+		return journal.checkpoint(this::consistentGames);
+	}
+	
+	public RecoveryReport getRecoveryReport() {
+		return recoveryReport;
+	}
+	
+	public MetricsSnapshot getMetrics() {
+		return metrics.snapshot(currentGames.size());
+	}
+	
+	// Read by a CompetitionGameStore on the partition writer, to account its memory budget
+	int getLiveGames() {
+		return currentGames.size();
+	}
+	
+	private List<GameSummary> consistentGames() {
+		for (int attempt = 0; attempt < CONSISTENT_SNAPSHOT_ATTEMPTS; attempt++) {
+			long completed = writesCompleted.get();
+			
+			if (writesStarted.get() == completed) {
+				List<GameSummary> summaries = walkGamesByLastUpdate(false);
+				
+				if (writesStarted.get() == completed) {
+					return summaries;
+				}
+			}
+			
+			Thread.onSpinWait();
+		}
+		
+		// Writers never left a quiet window: every game is read under its monitor, where the store changes it and journals
+		// the change, so each change is either in the checkpoint or journaled after the roll. The games are read from the
+		// table, the last update index could move an updated game behind the walk
+		List<GameSummary> summaries = new ArrayList<>(currentGames.size());
+		currentGames.forEach((gameKey, game) -> {
+			synchronized (game) {
+				summaries.add(game.getSummary());
+			}
+		});
+		summaries.sort(comparingLong(GameSummary::getSequence).reversed());
+		
+		return summaries;
+	}
+	
+	private ResultCode apply(GameCommand command) {
+		switch (command.getType()) {
+			case CREATE:
+				return applyCreate(teams.idOf(command.getHomeTeamId()), teams.idOf(command.getAwayTeamId()), command.getSport());
+			case UPDATE:
+				return applyUpdate(gameKeyOf(command.getHomeTeamId(), command.getAwayTeamId()), command.getHomeTeamScore(), command.getAwayTeamScore());
+			case FINISH:
+				return applyFinish(gameKeyOf(command.getHomeTeamId(), command.getAwayTeamId()));
+			default:
+				throw new IllegalStateException(command.getType().name());
+		}
+	}
+	
+	private ResultCode applyCreate(int homeTeam, int awayTeam, Sports sport) {
+		if (!noneOfTheTeamsIsAlreadyPlaying(homeTeam, awayTeam)) {
+			return TEAM_ALREADY_PLAYING;
+		}
+		
+		TwoTeamsGame game;
 		try {
-			lock.acquire();
+			game = gameFactory.createGame(teams.teamOf(homeTeam), teams.teamOf(awayTeam), sport, sequence.next());
+		} catch (RuntimeException e) {
+			return INVALID_GAME;
+		}
+		
+		addGame(GameTable.keyOf(homeTeam, awayTeam), game, sport, 0);
+		return CREATED;
+	}
+	
+	private ResultCode applyUpdate(long gameKey, int newHomeScore, int newAwayScore) {
+		TwoTeamsGame game = gameOf(gameKey);
+		
+		if (game == null) {
+			return NON_EXISTENT_GAME;
+		}
+		
+		synchronized (game) {
+			long previous = game.getSequence();
+			ResultCode result = game.tryUpdateScores(newHomeScore, newAwayScore, sequence.next());
 			
-			return currentGames.values().stream()
-					.sorted((game1, game2) -> game1.getLastUpdated().isAfter(game2.getLastUpdated()) ? -1 : 1)
-					.map(TwoTeamsGame::getGameInfo)
-					.collect(toList());
+			if (result.isSuccess()) {
+				scoreUpdated(gameKey, game, previous, newHomeScore, newAwayScore);
+			}
+			
+			return result;
+		}
+	}
+	
+	private ResultCode applyFinish(long gameKey) {
+		TwoTeamsGame game = gameOf(gameKey);
+		
+		if (game == null) {
+			return NON_EXISTENT_GAME;
+		}
+		
+		finishGame(gameKey, game);
+		return FINISHED;
+	}
+	
+	private void addGame(long gameKey, TwoTeamsGame game, Sports sport, int totalScore) {
+		synchronized (game) {
+			currentGames.put(gameKey, game);
+			indexes.added(gameKey, sport, totalScore);
+			gamesByLastUpdate.put(game.getSequence(), game);
+			changeFeed.publish(GameChange.Type.CREATED, game.getSequence(), game);
+			
+			if (journal != null) {
+				journal.appendCreate(game.getSequence(), homeTeamIdOf(gameKey), awayTeamIdOf(gameKey), sport);
+			}
+		}
+	}
+	
+	// Replayed finishes only remove the game, the archive only gets the games finished by this store
+	private void finishGame(long gameKey, TwoTeamsGame game) {
+		synchronized (game) {
+			long finished = removeGame(gameKey, game);
+			
+			if (archive != null) {
+				GameSummary summary = game.getSummary();
+				archive.archive(finished, System.currentTimeMillis(), summary.getHomeTeamId(), summary.getHomeTeamScore(),
+						summary.getAwayTeamId(), summary.getAwayTeamScore(), summary.getSport());
+			}
+		}
+	}
+	
+	private long removeGame(long gameKey, TwoTeamsGame game) {
+		synchronized (game) {
+			currentGames.remove(gameKey);
+			gamesByLastUpdate.remove(game.getSequence(), game);
+			indexes.removed(gameKey);
+			
+			long finished = sequence.next();
+			changeFeed.publish(GameChange.Type.FINISHED, finished, game);
+			
+			if (journal != null) {
+				journal.appendFinish(finished, homeTeamIdOf(gameKey), awayTeamIdOf(gameKey));
+			}
+			
+			return finished;
+		}
+	}
+	
+	private void scoreUpdated(long gameKey, TwoTeamsGame game, long previous, int newHomeScore, int newAwayScore) {
+		if (currentGames.get(gameKey) == game) {
+			long updated = game.getSequence();
+			
+			gamesByLastUpdate.put(updated, game);
+			gamesByLastUpdate.remove(previous);
+			indexes.scoreChanged(gameKey, newHomeScore + newAwayScore);
+			changeFeed.publish(GameChange.Type.SCORE_CHANGED, updated, game);
+			
+			if (journal != null) {
+				journal.appendUpdate(updated, homeTeamIdOf(gameKey), newHomeScore, awayTeamIdOf(gameKey), newAwayScore);
+			}
+		}
+	}
+	
+	// Called before the try whose finally releases the lock, so an interrupted wait never releases a permit it didn't get
+	private long acquireLock(Operation operation, long start) {
+		try {
+			lock.acquire();
 		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			metrics.completed(operation, false, start);
 			throw new RuntimeException(e);
-		} finally {
-			lock.release();
-		}		
+		}
+		
+		return metrics.lockAcquired(start);
+	}
+	
+	private void releaseLock(long acquired) {
+		metrics.lockReleased(acquired);
+		lock.release();
+	}
+	
+	private void completed(Operation operation, ResultCode result, long start) {
+		metrics.count(result);
+		metrics.completed(operation, result.isSuccess(), start);
+	}
+	
+	private void completeWrite(boolean modified) {
+		if (modified) {
+			writesCompleted.incrementAndGet();
+		} else {
+			writesStarted.decrementAndGet();
+		}
+	}
+	
+	private static List<GameSummary> pageOf(List<GameSummary> games, long cursor, int count) {
+		int low = 0;
+		int high = games.size();
+		
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			
+			if (games.get(middle).getSequence() < cursor) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		
+		return games.subList(low, (int) Math.min(games.size(), (long) low + count));
+	}
+	
+	private ScoreboardSnapshot publish(ScoreboardSnapshot built) {
+		if (snapshot.getVersion() < built.getVersion()) {
+			snapshot = built;
+		}
+		
+		return built;
+	}
+	
+	private List<GameSummary> walkGamesByLastUpdate(boolean concurrentWrites) {
+		List<GameSummary> summaries = new ArrayList<>(gamesByLastUpdate.size());
+		
+		for (Entry<Long, TwoTeamsGame> lastUpdate : gamesByLastUpdate.entrySet()) {
+			TwoTeamsGame game = lastUpdate.getValue();
+			
+			if (concurrentWrites) {
+				synchronized (game) {
+					addIfCurrent(summaries, lastUpdate.getKey(), game);
+				}
+			} else {
+				addIfCurrent(summaries, lastUpdate.getKey(), game);
+			}
+		}
+		
+		return summaries;
 	}
 	
-	private boolean noneOfTheTeamsIsAlreadyPlaying(String homeTeam, String awayTeam) {
+	private void addIfCurrent(List<GameSummary> summaries, long lastUpdate, TwoTeamsGame game) {
+		if (game.getSequence() == lastUpdate) {
+			summaries.add(game.getSummary());
+		}
+	}
+	
+	private void addCurrentSummaries(List<GameSummary> summaries, Set<Long> gameKeys, int minimumTotalScore) {
+		for (long gameKey : gameKeys) {
+			GameSummary summary = currentSummaryOf(gameKey);
+			
+			if (summary != null && summary.getHomeTeamScore() + summary.getAwayTeamScore() >= minimumTotalScore) {
+				summaries.add(summary);
+			}
+		}
+	}
+	
+	private GameSummary currentSummaryOf(long gameKey) {
+		TwoTeamsGame game = gameOf(gameKey);
+		
+		if (game == null) {
+			return null;
+		}
+		synchronized (game) {
+			return game.getSummary();
+		}
+	}
+	
+	private long gameKeyOf(String homeTeamId, String awayTeamId) {
+		int homeTeam = teams.find(homeTeamId);
+		int awayTeam = teams.find(awayTeamId);
+		
+		if (homeTeam == TeamRegistry.UNKNOWN_TEAM || awayTeam == TeamRegistry.UNKNOWN_TEAM) {
+			return GameTable.NO_GAME;
+		}
+		return GameTable.keyOf(homeTeam, awayTeam);
+	}
+	
+	private TwoTeamsGame gameOf(long gameKey) {
+		return gameKey == GameTable.NO_GAME ? null : currentGames.get(gameKey);
+	}
+	
+	private String homeTeamIdOf(long gameKey) {
+		return teams.nameOf(GameTable.homeTeamOf(gameKey));
+	}
+	
+	private String awayTeamIdOf(long gameKey) {
+		return teams.nameOf(GameTable.awayTeamOf(gameKey));
+	}
+	
+	private boolean noneOfTheTeamsIsAlreadyPlaying(int homeTeam, int awayTeam) {
 		return teamIsNotPlayingAlready(homeTeam) && teamIsNotPlayingAlready(awayTeam);
 	}
 
-	private boolean teamIsNotPlayingAlready(String teamId) {
-		return !teamIsPlayingAlready(teamId);
+	private boolean teamIsNotPlayingAlready(int team) {
+		return !teamIsPlayingAlready(team);
 	}
 	
-	private boolean teamIsPlayingAlready(String teamId) {
-		return currentGames.keySet().stream().anyMatch(gameId -> gameId.contains(teamId));
+	private boolean teamIsPlayingAlready(int team) {
+		return indexes.gameOfTeam(team) != GameTable.NO_GAME;
+	}
+	
+	private static final class EncodedBoard {
+		private final ScoreboardSnapshot snapshot;
+		private final ByteBuffer bytes;
+		
+		private EncodedBoard(ScoreboardSnapshot snapshot, ByteBuffer bytes) {
+			this.snapshot = snapshot;
+			this.bytes = bytes;
+		}
 	}
 	
-	private String gameIdFrom(String homeTeamId, String awayTeamId) {
-		return join(GAME_ID_SEP, homeTeamId, awayTeamId);
+	// Records already covered by the snapshot are replayed again, so the newest sequence of a game always wins
+	private final class JournalReplay implements JournalListener {
+		@Override
+		public void onRestore(long replayedSequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport) {
+			int homeTeam = teams.idOf(homeTeamId);
+			int awayTeam = teams.idOf(awayTeamId);
+			TwoTeamsGame game = gameFactory.restoreGame(teams.teamOf(homeTeam), homeTeamScore, teams.teamOf(awayTeam), awayTeamScore, sport, replayedSequence);
+			
+			addGame(GameTable.keyOf(homeTeam, awayTeam), game, sport, homeTeamScore + awayTeamScore);
+			replayed(replayedSequence);
+		}
+		
+		@Override
+		public void onCreate(long replayedSequence, String homeTeamId, String awayTeamId, Sports sport) {
+			int homeTeam = teams.idOf(homeTeamId);
+			int awayTeam = teams.idOf(awayTeamId);
+			long gameKey = GameTable.keyOf(homeTeam, awayTeam);
+			TwoTeamsGame game = currentGames.get(gameKey);
+			
+			if (game == null || game.getSequence() < replayedSequence) {
+				if (game != null) {
+					removeGame(gameKey, game);
+				}
+				addGame(gameKey, gameFactory.createGame(teams.teamOf(homeTeam), teams.teamOf(awayTeam), sport, replayedSequence), sport, 0);
+			}
+			replayed(replayedSequence);
+		}
+
+		@Override
+		public void onUpdate(long replayedSequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore) {
+			long gameKey = gameKeyOf(homeTeamId, awayTeamId);
+			TwoTeamsGame game = gameOf(gameKey);
+			
+			if (game != null && game.getSequence() < replayedSequence) {
+				long previous = game.getSequence();
+				
+				if (game.tryUpdateScores(homeTeamScore, awayTeamScore, replayedSequence).isSuccess()) {
+					scoreUpdated(gameKey, game, previous, homeTeamScore, awayTeamScore);
+				}
+			}
+			replayed(replayedSequence);
+		}
+
+		@Override
+		public void onFinish(long replayedSequence, String homeTeamId, String awayTeamId) {
+			long gameKey = gameKeyOf(homeTeamId, awayTeamId);
+			TwoTeamsGame game = gameOf(gameKey);
+			
+			if (game != null && game.getSequence() < replayedSequence) {
+				removeGame(gameKey, game);
+			}
+			replayed(replayedSequence);
+		}
+		
+		private void replayed(long replayedSequence) {
+			sequence.advanceTo(replayedSequence);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.scoreboard.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.ScoreboardSnapshot;
+
+// A board merged from the snapshots of several stores whose sequences order their writes across each other, like the clocked
+// sequences of the shards, its version is the sum of theirs.
+// It is kept until any of the sources changes, so reading an unchanged board doesn't merge it again.
+final class MergedSnapshot {
+	static final MergedSnapshot EMPTY = new MergedSnapshot(new ScoreboardSnapshot[0], ScoreboardSnapshot.EMPTY);
+	
+	private final ScoreboardSnapshot[] sources;
+	private final ScoreboardSnapshot snapshot;
+	
+	private MergedSnapshot(ScoreboardSnapshot[] sources, ScoreboardSnapshot snapshot) {
+		this.sources = sources;
+		this.snapshot = snapshot;
+	}
+	
+	static MergedSnapshot of(ScoreboardSnapshot[] sources) {
+		long version = 0;
+		List<List<GameSummary>> views = new ArrayList<>(sources.length);
+		for (ScoreboardSnapshot source : sources) {
+			version += source.getVersion();
+			views.add(source.getGames());
+		}
+		
+		return new MergedSnapshot(sources, new ScoreboardSnapshot(version, SummaryMerge.byLastUpdate(views)));
+	}
+	
+	ScoreboardSnapshot getSnapshot() {
+		return snapshot;
+	}
+	
+	boolean isMergeOf(ScoreboardSnapshot[] others) {
+		if (sources.length != others.length) {
+			return false;
+		}
+		
+		for (int source = 0; source < sources.length; source++) {
+			if (sources[source] != others[source]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
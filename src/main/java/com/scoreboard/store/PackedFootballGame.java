@@ -0,0 +1,235 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
+import static java.lang.String.format;
+import static java.time.Instant.ofEpochMilli;
+import static java.time.ZoneId.systemDefault;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.LocalDateTime;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+import com.scoreboard.TwoTeamsGame;
+
+// Both scores and the sequence live in one 64-bit word (12 + 12 + 40 bits) that is only changed by compare-and-set,
+// so the game is safe without any external lock and a reader can never see a torn score
+public final class PackedFootballGame implements TwoTeamsGame {
+	private static final String CONSTRUCTOR_EXCEPTION = "Can't create a football game with both same contenders";
+	private static final String MAX_SCORE_EXCEPTION = "Invalid score, scores can't be greater than %s, newHomeTeamScore: %s newAwayTeamScore: %s";
+	private static final String MAX_SEQUENCE_EXCEPTION = "Invalid sequence, it can't be negative or greater than %s: %s";
+	
+	private static final int SCORE_BITS = 12;
+	private static final int SEQUENCE_BITS = Long.SIZE - 2 * SCORE_BITS;
+	private static final int MAX_SCORE = (1 << SCORE_BITS) - 1;
+	private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+	
+	private static final ScoreRules RULES = ScoreRules.of(FOOTBALL);
+	
+	private static final VarHandle STATE;
+	
+	static {
+		try {
+			STATE = MethodHandles.lookup().findVarHandle(PackedFootballGame.class, "state", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	private final Team homeTeam;
+	private final Team awayTeam;
+	
+	private volatile long state;
+	
+	private volatile long lastUpdatedMillis;
+	
+	private volatile GameSummary summary;
+	
+	public PackedFootballGame(Team homeTeam, Team awayTeam) {
+		this(homeTeam, awayTeam, 0L);
+	}
+	
+	public PackedFootballGame(Team homeTeam, Team awayTeam, long sequence) {
+		this(homeTeam, 0, awayTeam, 0, sequence);
+	}
+	
+	public PackedFootballGame(Team homeTeam, int homeTeamScore, Team awayTeam, int awayTeamScore, long sequence) {
+		if (homeTeam.getTeamName().equals(awayTeam.getTeamName())) {
+			throw new RuntimeException(CONSTRUCTOR_EXCEPTION);
+		}
+		
+		ResultCode result = RULES.validate(homeTeamScore, awayTeamScore, homeTeamScore, awayTeamScore);
+		if (result != UPDATED) {
+			throw new RuntimeException(SportGame.getNewScoresError(RULES, homeTeamScore, awayTeamScore, homeTeamScore, awayTeamScore));
+		}
+		if (isAboveMaxScore(homeTeamScore, awayTeamScore)) {
+			throw new RuntimeException(format(MAX_SCORE_EXCEPTION, MAX_SCORE, homeTeamScore, awayTeamScore));
+		}
+		
+		this.homeTeam = homeTeam;
+		this.awayTeam = awayTeam;
+		
+		state = pack(homeTeamScore, awayTeamScore, sequence);
+		lastUpdatedMillis = System.currentTimeMillis();
+	}
+
+	@Override
+	public void updateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence) {
+		long updated = pack(newHomeTeamScore, newAwayTeamScore, sequence);
+		
+		for (;;) {
+			long current = state;
+			int homeTeamScore = homeTeamScoreOf(current);
+			int awayTeamScore = awayTeamScoreOf(current);
+			
+			if (validateNewScores(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore) != UPDATED) {
+				throw new RuntimeException(isAboveMaxScore(newHomeTeamScore, newAwayTeamScore) ? 
+						format(MAX_SCORE_EXCEPTION, MAX_SCORE, newHomeTeamScore, newAwayTeamScore) :
+							SportGame.getNewScoresError(RULES, homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore));
+			}
+			
+			if (STATE.compareAndSet(this, current, updated)) {
+				lastUpdatedMillis = System.currentTimeMillis();
+				return;
+			}
+		}
+	}
+	
+	@Override
+	public ResultCode tryUpdateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence) {
+		long updated = pack(newHomeTeamScore, newAwayTeamScore, sequence);
+		
+		for (;;) {
+			long current = state;
+			ResultCode result = validateNewScores(homeTeamScoreOf(current), awayTeamScoreOf(current), newHomeTeamScore, newAwayTeamScore);
+			
+			if (result != UPDATED) {
+				return result;
+			}
+			
+			if (STATE.compareAndSet(this, current, updated)) {
+				lastUpdatedMillis = System.currentTimeMillis();
+				return result;
+			}
+		}
+	}
+
+	@Override
+	public String getGameInfo() {
+		return getSummary().getGameInfo();
+	}
+	
+	@Override
+	public GameSummary getSummary() {
+		long current = state;
+		GameSummary cached = summary;
+		
+		if (cached == null || cached.getSequence() != sequenceOf(current)) {
+			int homeTeamScore = homeTeamScoreOf(current);
+			int awayTeamScore = awayTeamScoreOf(current);
+			
+			cached = new GameSummary(homeTeam.getTeamName(), homeTeamScore, awayTeam.getTeamName(), awayTeamScore, FOOTBALL, sequenceOf(current), 
+					GameFormat.toString(homeTeam, homeTeamScore, awayTeam, awayTeamScore));
+			summary = cached;
+		}
+		
+		return cached;
+	}
+	
+	@Override
+	public Sports getSport() {
+		return FOOTBALL;
+	}
+	
+	@Override
+	public long getSequence() {
+		return sequenceOf(state);
+	}
+	
+	@Override
+	public LocalDateTime getLastUpdated() {
+		return LocalDateTime.ofInstant(ofEpochMilli(lastUpdatedMillis), systemDefault());
+	}
+
+	@Override
+	public String toString() {
+		long current = state;
+		
+		return GameFormat.toString(homeTeam, homeTeamScoreOf(current), awayTeam, awayTeamScoreOf(current));
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((awayTeam == null) ? 0 : awayTeam.hashCode());
+		result = prime * result + ((homeTeam == null) ? 0 : homeTeam.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		PackedFootballGame other = (PackedFootballGame) obj;
+		if (awayTeam == null) {
+			if (other.awayTeam != null)
+				return false;
+		} else if (!awayTeam.equals(other.awayTeam))
+			return false;
+		if (homeTeam == null) {
+			if (other.homeTeam != null)
+				return false;
+		} else if (!homeTeam.equals(other.homeTeam))
+			return false;
+		return true;
+	}
+	
+	private static ResultCode validateNewScores(int homeTeamScore, int awayTeamScore, int newHomeTeamScore, int newAwayTeamScore) {
+		ResultCode result = RULES.validate(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore);
+		
+		if (result == UPDATED && newHomeTeamScore > MAX_SCORE) {
+			return INVALID_HOME_TEAM_SCORE;
+		}
+		if (result == UPDATED && newAwayTeamScore > MAX_SCORE) {
+			return INVALID_AWAY_TEAM_SCORE;
+		}
+		
+		return result;
+	}
+	
+	private static boolean isAboveMaxScore(int homeTeamScore, int awayTeamScore) {
+		return homeTeamScore > MAX_SCORE || awayTeamScore > MAX_SCORE;
+	}
+	
+	private static long pack(int homeTeamScore, int awayTeamScore, long sequence) {
+		if (sequence < 0 || sequence > MAX_SEQUENCE) {
+			throw new IllegalArgumentException(format(MAX_SEQUENCE_EXCEPTION, MAX_SEQUENCE, sequence));
+		}
+		
+		return (long) (homeTeamScore & MAX_SCORE) << (SCORE_BITS + SEQUENCE_BITS) 
+				| (long) (awayTeamScore & MAX_SCORE) << SEQUENCE_BITS 
+				| sequence;
+	}
+	
+	private static int homeTeamScoreOf(long state) {
+		return (int) (state >>> (SCORE_BITS + SEQUENCE_BITS)) & MAX_SCORE;
+	}
+	
+	private static int awayTeamScoreOf(long state) {
+		return (int) (state >>> SEQUENCE_BITS) & MAX_SCORE;
+	}
+	
+	private static long sequenceOf(long state) {
+		return state & MAX_SEQUENCE;
+	}
+}
@@ -0,0 +1,160 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCreator.NOT_SUPPORTED_SPORT_EXCEPTION;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_CANCELLED;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NEGATIVE_SCORE;
+import static com.scoreboard.ResultCode.SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.BASKETBALL;
+import static com.scoreboard.Sports.FOOTBALL;
+import static java.lang.String.format;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+
+// The score transitions allowed by a two-team sport, precompiled into a table indexed by the change of both scores, so
+// validating an update is a range check and one array lookup whatever the sport. Each team may score or have cancelled
+// any of the points of the sport, but only one team can change its score per update.
+public final class ScoreRules {
+	private static final Map<Sports, ScoreRules> RULES = new EnumMap<>(Sports.class);
+	
+	static {
+		register(new ScoreRules(FOOTBALL, 1));
+		register(new ScoreRules(BASKETBALL, 1, 2, 3));
+	}
+	
+	private final Sports sport;
+	
+	private final int[] points;
+	private final int maxPoints;
+	private final int width;
+	
+	private final ResultCode[] transitions;
+	
+	ScoreRules(Sports sport, int... points) {
+		int maxPoints = 0;
+		for (int point : points) {
+			maxPoints = Math.max(maxPoints, point);
+		}
+		
+		this.sport = sport;
+		this.points = points.clone();
+		this.maxPoints = maxPoints;
+		this.width = 2 * maxPoints + 1;
+		this.transitions = new ResultCode[width * width];
+		
+		boolean[] allowed = new boolean[width];
+		allowed[maxPoints] = true;
+		for (int point : points) {
+			allowed[maxPoints + point] = true;
+			allowed[maxPoints - point] = true;
+		}
+		
+		for (int homeTeamDifference = -maxPoints; homeTeamDifference <= maxPoints; homeTeamDifference++) {
+			for (int awayTeamDifference = -maxPoints; awayTeamDifference <= maxPoints; awayTeamDifference++) {
+				transitions[indexOf(homeTeamDifference, awayTeamDifference)] =
+						resultOf(allowed, homeTeamDifference, awayTeamDifference);
+			}
+		}
+	}
+	
+	public static ScoreRules of(Sports sport) {
+		ScoreRules rules = RULES.get(sport);
+		
+		if (rules == null) {
+			throw new RuntimeException(format(NOT_SUPPORTED_SPORT_EXCEPTION, sport.name()));
+		}
+		
+		return rules;
+	}
+	
+	public ResultCode validate(int homeTeamScore, int awayTeamScore, int newHomeTeamScore, int newAwayTeamScore) {
+		if ((newHomeTeamScore | newAwayTeamScore) < 0) {
+			return NEGATIVE_SCORE;
+		}
+		
+		int homeTeamDifference = newHomeTeamScore - homeTeamScore;
+		int awayTeamDifference = newAwayTeamScore - awayTeamScore;
+		
+		if (homeTeamDifference < -maxPoints || homeTeamDifference > maxPoints) {
+			return INVALID_HOME_TEAM_SCORE;
+		}
+		
+		if (awayTeamDifference < -maxPoints || awayTeamDifference > maxPoints) {
+			return INVALID_AWAY_TEAM_SCORE;
+		}
+		
+		return transitions[indexOf(homeTeamDifference, awayTeamDifference)];
+	}
+	
+	// Whether one team may change its score by the difference
+	public boolean allows(int difference) {
+		return difference >= -maxPoints && difference <= maxPoints && transitions[indexOf(difference, 0)] == UPDATED;
+	}
+	
+	// The change of one team's score to apply first to reach the difference with changes of one sign, the difference itself
+	// when the sport allows it and otherwise the largest allowed change that leaves a reachable rest, 0 when there is none
+	public int stepToward(int difference) {
+		if (allows(difference)) {
+			return difference;
+		}
+		
+		int remaining = Math.abs(difference);
+		boolean[] reachable = new boolean[remaining + 1];
+		reachable[0] = true;
+		for (int rest = 1; rest <= remaining; rest++) {
+			for (int point : points) {
+				reachable[rest] |= point <= rest && reachable[rest - point];
+			}
+		}
+		
+		for (int step = Math.min(remaining, maxPoints); step > 0; step--) {
+			if (allows(step) && reachable[remaining - step]) {
+				return Integer.signum(difference) * step;
+			}
+		}
+		return 0;
+	}
+	
+	public Sports getSport() {
+		return sport;
+	}
+	
+	private int indexOf(int homeTeamDifference, int awayTeamDifference) {
+		return (homeTeamDifference + maxPoints) * width + awayTeamDifference + maxPoints;
+	}
+	
+	private ResultCode resultOf(boolean[] allowed, int homeTeamDifference, int awayTeamDifference) {
+		if (!allowed[homeTeamDifference + maxPoints]) {
+			return INVALID_HOME_TEAM_SCORE;
+		}
+		
+		if (!allowed[awayTeamDifference + maxPoints]) {
+			return INVALID_AWAY_TEAM_SCORE;
+		}
+		
+		if (homeTeamDifference > 0 && awayTeamDifference > 0) {
+			return BOTH_TEAMS_SCORED;
+		}
+		
+		if (homeTeamDifference < 0 && awayTeamDifference < 0) {
+			return BOTH_TEAMS_CANCELLED;
+		}
+		
+		if (homeTeamDifference != 0 && awayTeamDifference != 0) {
+			return SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+		}
+		
+		return UPDATED;
+	}
+	
+	private static void register(ScoreRules rules) {
+		RULES.put(rules.sport, rules);
+	}
+}
@@ -0,0 +1,271 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCommand.Type.CREATE;
+import static com.scoreboard.GameCommand.Type.FINISH;
+import static com.scoreboard.ResultCode.TEAM_ALREADY_PLAYING;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.scoreboard.GameCommand;
+import com.scoreboard.GameCreator;
+import com.scoreboard.GameManagement;
+import com.scoreboard.GamePage;
+import com.scoreboard.GameQueries;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.ScoreboardSnapshot;
+import com.scoreboard.Sports;
+
+// Every shard is an InMemoryTwoTeamsGameStore written on the caller's thread under its own lock, games are routed by their
+// (home, away) pair. Each shard takes its sequence from the same clock (see WriteSequence), so their ordered views can be
+// merged without a shared counter, and they share one team index so a team can't play in two shards. The sequences take
+// all 64 bits, so a factory whose games keep a shorter sequence, like the packed ones, is rejected.
+public final class ShardedTwoTeamsGameStore implements GameManagement, GameQueries {
+	private static final String INVALID_SHARDS_EXCEPTION = "The number of shards must be positive, but it was %s";
+	private static final String SHORT_SEQUENCE_EXCEPTION = "The %s games of this factory can't keep a 64 bits sequence, shards can't use them";
+	
+	private final InMemoryTwoTeamsGameStore[] shards;
+	
+	private final Map<String, GameKey> playingTeams;
+	
+	private volatile MergedSnapshot merged;
+	
+	public ShardedTwoTeamsGameStore(GameCreator gameFactory, int shardCount) {
+		if (shardCount <= 0) {
+			throw new IllegalArgumentException(format(INVALID_SHARDS_EXCEPTION, shardCount));
+		}
+		checkLongSequences(gameFactory);
+		
+		long origin = System.nanoTime();
+		shards = new InMemoryTwoTeamsGameStore[shardCount];
+		
+		for (int shard = 0; shard < shardCount; shard++) {
+			shards[shard] = new InMemoryTwoTeamsGameStore(gameFactory, WriteSequence.clocked(origin, shard, shardCount));
+		}
+		
+		playingTeams = new ConcurrentHashMap<>();
+		merged = MergedSnapshot.EMPTY;
+	}
+
+	@Override
+	public void createGame(String homeTeamId, String awayTeamId, Sports sport) {
+		GameKey gameKey = new GameKey(homeTeamId, awayTeamId);
+		
+		if (!claim(gameKey)) {
+			return;
+		}
+		
+		try {
+			shardOf(gameKey).createGame(homeTeamId, awayTeamId, sport);
+		} catch (RuntimeException e) {
+			release(gameKey);
+			throw e;
+		}
+	}
+
+	@Override
+	public void updateGameScore(String homeTeamId, Integer newHomeScore, String awayTeamId, Integer newAwayScore) {
+		shardOf(new GameKey(homeTeamId, awayTeamId)).updateGameScore(homeTeamId, newHomeScore, awayTeamId, newAwayScore);
+	}
+
+	@Override
+	public ResultCode tryUpdateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+		return shardOf(new GameKey(homeTeamId, awayTeamId)).tryUpdateGameScore(homeTeamId, newHomeScore, awayTeamId, newAwayScore);
+	}
+
+	@Override
+	public void finishGame(String homeTeamId, String awayTeamId) {
+		GameKey gameKey = new GameKey(homeTeamId, awayTeamId);
+		
+		shardOf(gameKey).finishGame(homeTeamId, awayTeamId);
+		release(gameKey);
+	}
+
+	// Consecutive commands of the same shard are applied as one batch of that shard, in command order. The teams of a create
+	// are claimed when it is reached and those of a finish are only released once its shard has applied it, so a create
+	// waiting for a team being finished in the pending run makes that run apply first.
+	@Override
+	public List<ResultCode> applyBatch(List<GameCommand> commands) {
+		ResultCode[] results = new ResultCode[commands.size()];
+		List<Integer> run = new ArrayList<>();
+		int runShard = -1;
+		
+		for (int position = 0; position < commands.size(); position++) {
+			GameCommand command = commands.get(position);
+			GameKey gameKey = new GameKey(command.getHomeTeamId(), command.getAwayTeamId());
+			int shard = shardIndexOf(gameKey);
+			
+			if (shard != runShard) {
+				apply(runShard, run, commands, results);
+				runShard = shard;
+			}
+			
+			if (command.getType() == CREATE && !claim(gameKey)) {
+				apply(runShard, run, commands, results);
+				
+				if (!claim(gameKey)) {
+					results[position] = TEAM_ALREADY_PLAYING;
+					continue;
+				}
+			}
+			
+			run.add(position);
+		}
+		apply(runShard, run, commands, results);
+		
+		return Arrays.asList(results);
+	}
+
+	@Override
+	public List<String> getGameSummaries() {
+		return getSnapshot().getGameSummaries();
+	}
+
+	@Override
+	public List<GameSummary> getGameSummaryViews() {
+		return getSnapshot().getGames();
+	}
+
+	@Override
+	public ScoreboardSnapshot getSnapshot() {
+		ScoreboardSnapshot[] sources = new ScoreboardSnapshot[shards.length];
+		for (int shard = 0; shard < shards.length; shard++) {
+			sources[shard] = shards[shard].getSnapshot();
+		}
+		
+		MergedSnapshot current = merged;
+		if (current.isMergeOf(sources)) {
+			return current.getSnapshot();
+		}
+		
+		MergedSnapshot rebuilt = MergedSnapshot.of(sources);
+		if (current.getSnapshot().getVersion() < rebuilt.getSnapshot().getVersion()) {
+			merged = rebuilt;
+		}
+		
+		return rebuilt.getSnapshot();
+	}
+	
+	@Override
+	public List<GameSummary> getTopGames(int limit) {
+		return getGamesBefore(GamePage.FIRST_PAGE, limit).getGames();
+	}
+
+	// Every shard returns at most limit + 1 games before the cursor, so the merged page only looks at shards * (limit + 1) games
+	// and still knows whether there is a next page
+	@Override
+	public GamePage getGamesBefore(long cursor, int limit) {
+		int fetched = GamePage.fetchSizeOf(limit);
+		List<List<GameSummary>> pages = new ArrayList<>(shards.length);
+		for (InMemoryTwoTeamsGameStore shard : shards) {
+			pages.add(shard.gamesBefore(cursor, fetched));
+		}
+		
+		return new GamePage(SummaryMerge.byLastUpdate(pages, fetched), limit);
+	}
+	
+	@Override
+	public Optional<GameSummary> getGameOf(String teamId) {
+		GameKey gameKey = playingTeams.get(teamId);
+		
+		return gameKey == null ? Optional.empty() : shardOf(gameKey).getGameOf(teamId);
+	}
+	
+	@Override
+	public List<GameSummary> getGamesOf(Sports sport) {
+		List<List<GameSummary>> games = new ArrayList<>(shards.length);
+		for (InMemoryTwoTeamsGameStore shard : shards) {
+			games.add(shard.getGamesOf(sport));
+		}
+		
+		return SummaryMerge.byLastUpdate(games);
+	}
+	
+	@Override
+	public List<GameSummary> getGamesWithTotalScoreAtLeast(int totalScore) {
+		List<List<GameSummary>> games = new ArrayList<>(shards.length);
+		for (InMemoryTwoTeamsGameStore shard : shards) {
+			games.add(shard.getGamesWithTotalScoreAtLeast(totalScore));
+		}
+		
+		return SummaryMerge.byLastUpdate(games);
+	}
+	
+	public int getShardCount() {
+		return shards.length;
+	}
+	
+	// A sport the factory doesn't support is skipped, it is rejected when a game of it is created
+	private static void checkLongSequences(GameCreator gameFactory) {
+		for (Sports sport : Sports.values()) {
+			try {
+				gameFactory.createGame(new Team("home"), new Team("away"), sport, 0L);
+			} catch (RuntimeException e) {
+				continue;
+			}
+			
+			try {
+				gameFactory.createGame(new Team("home"), new Team("away"), sport, Long.MAX_VALUE);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException(format(SHORT_SEQUENCE_EXCEPTION, sport), e);
+			}
+		}
+	}
+	
+	private InMemoryTwoTeamsGameStore shardOf(GameKey gameKey) {
+		return shards[shardIndexOf(gameKey)];
+	}
+	
+	private int shardIndexOf(GameKey gameKey) {
+		int hash = gameKey.hashCode();
+		return Math.floorMod(hash ^ hash >>> 16, shards.length);
+	}
+	
+	private void apply(int shard, List<Integer> run, List<GameCommand> commands, ResultCode[] results) {
+		if (run.isEmpty()) {
+			return;
+		}
+		
+		List<GameCommand> shardCommands = new ArrayList<>(run.size());
+		for (int position : run) {
+			shardCommands.add(commands.get(position));
+		}
+		
+		List<ResultCode> shardResults = shards[shard].applyBatch(shardCommands);
+		
+		for (int index = 0; index < run.size(); index++) {
+			GameCommand command = shardCommands.get(index);
+			ResultCode result = shardResults.get(index);
+			results[run.get(index)] = result;
+			
+			if (command.getType() == FINISH || command.getType() == CREATE && !result.isSuccess()) {
+				release(new GameKey(command.getHomeTeamId(), command.getAwayTeamId()));
+			}
+		}
+		run.clear();
+	}
+	
+	private boolean claim(GameKey gameKey) {
+		if (playingTeams.putIfAbsent(gameKey.getHomeTeamId(), gameKey) != null) {
+			return false;
+		}
+		
+		if (playingTeams.putIfAbsent(gameKey.getAwayTeamId(), gameKey) != null) {
+			playingTeams.remove(gameKey.getHomeTeamId(), gameKey);
+			return false;
+		}
+		
+		return true;
+	}
+	
+	private void release(GameKey gameKey) {
+		playingTeams.remove(gameKey.getHomeTeamId(), gameKey);
+		playingTeams.remove(gameKey.getAwayTeamId(), gameKey);
+	}
+}
@@ -0,0 +1,180 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.ResultCode.UPDATED;
+import static java.lang.String.format;
+import static java.time.Instant.ofEpochMilli;
+import static java.time.ZoneId.systemDefault;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+import com.scoreboard.TwoTeamsGame;
+
+// A two-team game of any sport, every update is validated with the ScoreRules of its sport. Rejections keep the messages
+// the football game always had, with the points of the sport in place of single goals.
+public class SportGame implements TwoTeamsGame {
+	private static final String UPDATE_AT_THE_SAME_TIME_EXCEPTION = "Only one team score can be updated at the same time";
+	private static final String CANCEL_GOAL_AT_THE_SAME_TIME_EXCEPTION = "Invalid score, both teams can't have a cancelled goal at the same time";
+	private static final String SCORE_AT_THE_SAME_TIME_EXCEPTION = "Invalid score, both teams can't score at the same time";
+	private static final String AWAY_TEAM_SCORE_EXCEPTION = "Invalid new awayTeamScore, from oldScore: %s to newScore: %s";
+	private static final String HOME_TEAM_SCORE_EXCEPTION = "Invalid new homeTeamScore, from oldScore: %s to newScore: %s";
+	private static final String NEGATIVE_SCORE_EXCEPTION = "Error scores can't be negative, newHomeTeamScore: %s newAwayTeamScore: %s";
+	private static final String CONSTRUCTOR_EXCEPTION = "Can't create a %s game with both same contenders";
+	
+	private static final int INITIAL_SCORE = 0;
+	
+	private final Team homeTeam;
+	private int homeTeamScore;
+	
+	private final Team awayTeam;
+	private int awayTeamScore;
+	
+	private final ScoreRules rules;
+	
+	private long sequence;
+	
+	private long lastUpdatedMillis;
+	
+	private GameSummary summary;
+	
+	public SportGame(Team homeTeam, Team awayTeam, ScoreRules rules, long sequence) {
+		this(homeTeam, INITIAL_SCORE, awayTeam, INITIAL_SCORE, rules, sequence);
+	}
+	
+	public SportGame(Team homeTeam, int homeTeamScore, Team awayTeam, int awayTeamScore, ScoreRules rules, long sequence) {
+		if (homeTeam.getTeamName().equals(awayTeam.getTeamName())) {
+			throw new RuntimeException(format(CONSTRUCTOR_EXCEPTION, rules.getSport().name().toLowerCase(Locale.ROOT)));
+		}
+		
+		ResultCode result = rules.validate(homeTeamScore, awayTeamScore, homeTeamScore, awayTeamScore);
+		if (result != UPDATED) {
+			throw new RuntimeException(getNewScoresError(rules, homeTeamScore, awayTeamScore, homeTeamScore, awayTeamScore));
+		}
+		
+		this.homeTeam = homeTeam;
+		this.homeTeamScore = homeTeamScore;
+		this.awayTeam = awayTeam;
+		this.awayTeamScore = awayTeamScore;
+		this.rules = rules;
+		
+		stamp(sequence);
+	}
+	
+	@Override
+	public void updateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence) {
+		ResultCode result = tryUpdateScores(newHomeTeamScore, newAwayTeamScore, sequence);
+		
+		if (result != UPDATED) {
+			throw new RuntimeException(getNewScoresError(rules, homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore));
+		}
+	}
+	
+	@Override
+	public ResultCode tryUpdateScores(int newHomeTeamScore, int newAwayTeamScore, long sequence) {
+		ResultCode result = rules.validate(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore);
+		
+		if (result == UPDATED) {
+			homeTeamScore = newHomeTeamScore;
+			awayTeamScore = newAwayTeamScore;
+			stamp(sequence);
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public String getGameInfo() {
+		return getSummary().getGameInfo();
+	}
+	
+	@Override
+	public GameSummary getSummary() {
+		GameSummary current = summary;
+		
+		if (current == null || current.getSequence() != sequence) {
+			current = new GameSummary(homeTeam.getTeamName(), homeTeamScore, awayTeam.getTeamName(), awayTeamScore, rules.getSport(), sequence, toString());
+			summary = current;
+		}
+		
+		return current;
+	}
+	
+	@Override
+	public Sports getSport() {
+		return rules.getSport();
+	}
+	
+	@Override
+	public long getSequence() {
+		return sequence;
+	}
+	
+	@Override
+	public LocalDateTime getLastUpdated() {
+		return LocalDateTime.ofInstant(ofEpochMilli(lastUpdatedMillis), systemDefault());
+	}
+	
+	@Override
+	public String toString() {
+		return GameFormat.toString(homeTeam, homeTeamScore, awayTeam, awayTeamScore);
+	}
+	
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((awayTeam == null) ? 0 : awayTeam.hashCode());
+		result = prime * result + ((homeTeam == null) ? 0 : homeTeam.hashCode());
+		return result;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SportGame other = (SportGame) obj;
+		return homeTeam.equals(other.homeTeam) && awayTeam.equals(other.awayTeam);
+	}
+	
+	static String getNewScoresError(ScoreRules rules, int homeTeamScore, int awayTeamScore, int newHomeTeamScore, int newAwayTeamScore) {
+		if (newHomeTeamScore < 0 || newAwayTeamScore < 0) {
+			return format(NEGATIVE_SCORE_EXCEPTION, newHomeTeamScore, newAwayTeamScore);
+		}
+		
+		int homeTeamDifference = newHomeTeamScore - homeTeamScore;
+		int awayTeamDifference = newAwayTeamScore - awayTeamScore;
+		StringBuilder errorMessage = new StringBuilder();
+		
+		if (!rules.allows(homeTeamDifference)) {
+			errorMessage.append(format(HOME_TEAM_SCORE_EXCEPTION, homeTeamScore, newHomeTeamScore));
+		}
+		
+		if (!rules.allows(awayTeamDifference)) {
+			errorMessage.append(format(AWAY_TEAM_SCORE_EXCEPTION, awayTeamScore, newAwayTeamScore));
+		}
+		
+		if (errorMessage.length() == 0) {
+			if (homeTeamDifference > 0 && awayTeamDifference > 0) {
+				errorMessage.append(SCORE_AT_THE_SAME_TIME_EXCEPTION);
+			} else if (homeTeamDifference < 0 && awayTeamDifference < 0) {
+				errorMessage.append(CANCEL_GOAL_AT_THE_SAME_TIME_EXCEPTION);
+			} else if (homeTeamDifference != 0 && awayTeamDifference != 0) {
+				errorMessage.append(UPDATE_AT_THE_SAME_TIME_EXCEPTION);
+			}
+		}
+		
+		return errorMessage.toString();
+	}
+	
+	private void stamp(long sequence) {
+		this.sequence = sequence;
+		lastUpdatedMillis = System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,63 @@
+package com.scoreboard.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.scoreboard.GameSummary;
+
+// K-way merge of views that are already ordered by descending sequence, O(n log k) instead of re-sorting the whole board
+public final class SummaryMerge {
+	private SummaryMerge() {
+	}
+	
+	public static List<GameSummary> byLastUpdate(List<List<GameSummary>> views) {
+		return byLastUpdate(views, Integer.MAX_VALUE);
+	}
+	
+	public static List<GameSummary> byLastUpdate(List<List<GameSummary>> views, int limit) {
+		PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, views.size()));
+		int size = 0;
+		
+		for (List<GameSummary> view : views) {
+			size += view.size();
+			if (!view.isEmpty()) {
+				heads.add(new Cursor(view));
+			}
+		}
+		
+		List<GameSummary> merged = new ArrayList<>(Math.min(size, limit));
+		while (!heads.isEmpty() && merged.size() < limit) {
+			Cursor head = heads.poll();
+			
+			merged.add(head.current());
+			if (head.advance()) {
+				heads.add(head);
+			}
+		}
+		
+		return merged;
+	}
+	
+	private static final class Cursor implements Comparable<Cursor> {
+		private final List<GameSummary> view;
+		private int index;
+		
+		private Cursor(List<GameSummary> view) {
+			this.view = view;
+		}
+		
+		private GameSummary current() {
+			return view.get(index);
+		}
+		
+		private boolean advance() {
+			return ++index < view.size();
+		}
+
+		@Override
+		public int compareTo(Cursor other) {
+			return Long.compare(other.current().getSequence(), current().getSequence());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.scoreboard.store;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Team names are interned to dense ids the first time a fixture uses them, the ids are never reused
+public final class TeamRegistry {
+	public static final int UNKNOWN_TEAM = -1;
+	
+	private static final int INITIAL_CAPACITY = 16;
+	
+	private final Map<String, Integer> ids;
+	
+	private volatile Team[] teams;
+	
+	private int size;
+	
+	public TeamRegistry() {
+		ids = new ConcurrentHashMap<>();
+		teams = new Team[INITIAL_CAPACITY];
+	}
+	
+	public int idOf(String teamName) {
+		Integer id = ids.get(teamName);
+		
+		return id != null ? id : intern(teamName);
+	}
+	
+	public int find(String teamName) {
+		Integer id = ids.get(teamName);
+		
+		return id != null ? id : UNKNOWN_TEAM;
+	}
+	
+	public Team teamOf(int id) {
+		return teams[id];
+	}
+	
+	public String nameOf(int id) {
+		return teams[id].getTeamName();
+	}
+	
+	public int size() {
+		return ids.size();
+	}
+	
+	private synchronized int intern(String teamName) {
+		Integer id = ids.get(teamName);
+		if (id != null) {
+			return id;
+		}
+		
+		Team[] current = teams;
+		if (size == current.length) {
+			current = Arrays.copyOf(current, current.length * 2);
+		}
+		current[size] = new Team(teamName);
+		teams = current;
+		
+		// Published after the team, so a reader that finds the id always finds its team
+		ids.put(teamName, size);
+		return size++;
+	}
+}
@@ -0,0 +1,53 @@
+package com.scoreboard.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// The sequence a store stamps its writes with. A counting sequence can be shared by several stores, a clocked one belongs
+// to a single shard: it follows the elapsed nanoseconds, one ahead of its last value when the shard writes faster than the
+// clock ticks, and keeps the shard in its low bits, so shards order their writes across each other without a shared counter.
+final class WriteSequence {
+	private final AtomicLong last;
+	
+	private final long origin;
+	private final int shard;
+	private final int shardBits;
+	
+	private WriteSequence(long origin, int shard, int shardBits) {
+		this.last = new AtomicLong();
+		this.origin = origin;
+		this.shard = shard;
+		this.shardBits = shardBits;
+	}
+	
+	static WriteSequence counting() {
+		return new WriteSequence(0, 0, -1);
+	}
+	
+	// Every shard of a store must be given the same origin and shard count
+	static WriteSequence clocked(long origin, int shard, int shardCount) {
+		return new WriteSequence(origin, shard, 32 - Integer.numberOfLeadingZeros(shardCount - 1));
+	}
+	
+	long next() {
+		if (shardBits < 0) {
+			return last.incrementAndGet();
+		}
+		
+		long elapsed = System.nanoTime() - origin;
+		while (true) {
+			long previous = last.get();
+			long next = Math.max((previous >>> shardBits) + 1, elapsed) << shardBits | shard;
+			
+			if (last.compareAndSet(previous, next)) {
+				return next;
+			}
+		}
+	}
+	
+	// Only called while a journal is replayed, before the store takes writes
+	void advanceTo(long sequence) {
+		if (last.get() < sequence) {
+			last.set(sequence);
+		}
+	}
+}
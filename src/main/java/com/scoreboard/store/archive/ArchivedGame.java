@@ -0,0 +1,57 @@
+package com.scoreboard.store.archive;
+
+import com.scoreboard.Sports;
+
+public final class ArchivedGame {
+	private final String homeTeamId;
+	private final int homeTeamScore;
+	private final String awayTeamId;
+	private final int awayTeamScore;
+	private final Sports sport;
+	private final long finishSequence;
+	private final long finishedMillis;
+	
+	public ArchivedGame(String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport, long finishSequence, long finishedMillis) {
+		this.homeTeamId = homeTeamId;
+		this.homeTeamScore = homeTeamScore;
+		this.awayTeamId = awayTeamId;
+		this.awayTeamScore = awayTeamScore;
+		this.sport = sport;
+		this.finishSequence = finishSequence;
+		this.finishedMillis = finishedMillis;
+	}
+
+	public String getHomeTeamId() {
+		return homeTeamId;
+	}
+
+	public int getHomeTeamScore() {
+		return homeTeamScore;
+	}
+
+	public String getAwayTeamId() {
+		return awayTeamId;
+	}
+
+	public int getAwayTeamScore() {
+		return awayTeamScore;
+	}
+
+	public Sports getSport() {
+		return sport;
+	}
+
+	public long getFinishSequence() {
+		return finishSequence;
+	}
+
+	public long getFinishedMillis() {
+		return finishedMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "ArchivedGame [homeTeamId=" + homeTeamId + ", homeTeamScore=" + homeTeamScore + ", awayTeamId=" + awayTeamId
+				+ ", awayTeamScore=" + awayTeamScore + ", sport=" + sport + ", finishSequence=" + finishSequence + ", finishedMillis=" + finishedMillis + "]";
+	}
+}
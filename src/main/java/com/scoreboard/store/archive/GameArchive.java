@@ -0,0 +1,440 @@
+package com.scoreboard.store.archive;
+
+import static java.lang.String.format;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import com.scoreboard.Sports;
+
+// Finished games kept as parallel primitive columns in a ring, about BYTES_PER_GAME bytes each instead of a game object graph.
+// Rows are appended in finish order, so finish sequences are sorted and can be binary searched, and every row links to the
+// previous row of its home and away teams so the games of a team are found without scanning.
+// When the ring is full the oldest row is dropped, or first appended to a spill file. Team names are kept once in a dictionary
+// counted against the same memory cap, about BYTES_PER_TEAM bytes plus two per character each, and a team leaves it with the
+// last row it plays in.
+public final class GameArchive implements Closeable {
+	public static final int BYTES_PER_GAME = 2 * Long.BYTES + 4 * Integer.BYTES + Byte.BYTES + 2 * Long.BYTES;
+	// The name object, the map entry with its boxed id, and the team's slots in the name list and team columns
+	public static final int BYTES_PER_TEAM = 64 + 48 + 2 * Integer.BYTES + Long.BYTES;
+	
+	private static final String INVALID_MEMORY_CAP_EXCEPTION = "The memory cap must hold at least one game (%s bytes), but it was %s";
+	private static final String EXPORT_HEADER = "finishSequence,finishedMillis,sport,homeTeam,homeTeamScore,awayTeam,awayTeamScore\n";
+	private static final int INITIAL_ROWS = 1024;
+	private static final long NO_ROW = -1L;
+	
+	private static final Sports[] SPORTS = Sports.values();
+	
+	private final long memoryCapBytes;
+	private final int capacity;
+	private final Path spillFile;
+	
+	private final ReentrantReadWriteLock lock;
+	
+	private long[] finishSequences;
+	private long[] finishedMillis;
+	private int[] homeTeams;
+	private int[] awayTeams;
+	private int[] homeTeamScores;
+	private int[] awayTeamScores;
+	private byte[] sports;
+	private long[] previousOfHomeTeam;
+	private long[] previousOfAwayTeam;
+	
+	private final List<String> teamNames;
+	private final Map<String, Integer> teamIds;
+	private final Deque<Integer> freeTeams;
+	private long[] lastRowOfTeam;
+	private int[] rowsOfTeam;
+	private long teamBytes;
+	
+	// Rows are numbered from the first one ever appended, the live ones are [appended - size, appended)
+	private long appended;
+	private long evicted;
+	
+	private DataOutputStream spill;
+	
+	private GameArchive(long memoryCapBytes, Path spillFile) {
+		if (memoryCapBytes < BYTES_PER_GAME) {
+			throw new IllegalArgumentException(format(INVALID_MEMORY_CAP_EXCEPTION, BYTES_PER_GAME, memoryCapBytes));
+		}
+		
+		this.memoryCapBytes = memoryCapBytes;
+		this.capacity = (int) Math.min(Integer.MAX_VALUE - 8, memoryCapBytes / BYTES_PER_GAME);
+		this.spillFile = spillFile;
+		
+		lock = new ReentrantReadWriteLock();
+		teamNames = new ArrayList<>();
+		teamIds = new HashMap<>();
+		freeTeams = new ArrayDeque<>();
+		lastRowOfTeam = new long[0];
+		rowsOfTeam = new int[0];
+		allocate(Math.min(capacity, INITIAL_ROWS));
+	}
+	
+	public static GameArchive evictingOldest(long memoryCapBytes) {
+		return new GameArchive(memoryCapBytes, null);
+	}
+	
+	public static GameArchive spillingTo(Path spillFile, long memoryCapBytes) {
+		return new GameArchive(memoryCapBytes, spillFile);
+	}
+	
+	public void archive(long finishSequence, long finishedAt, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport) {
+		lock.writeLock().lock();
+		try {
+			int homeTeam = teamIdOf(homeTeamId);
+			int awayTeam = teamIdOf(awayTeamId);
+			
+			while (appended > evicted && (appended - evicted == capacity || usedBytes() + BYTES_PER_GAME > memoryCapBytes)) {
+				evictOldest();
+			}
+			if (appended - evicted == finishSequences.length) {
+				allocate((int) Math.min(capacity, 2L * finishSequences.length));
+			}
+			
+			int row = rowOf(appended);
+			
+			finishSequences[row] = finishSequence;
+			finishedMillis[row] = finishedAt;
+			homeTeams[row] = homeTeam;
+			awayTeams[row] = awayTeam;
+			homeTeamScores[row] = homeTeamScore;
+			awayTeamScores[row] = awayTeamScore;
+			sports[row] = (byte) sport.ordinal();
+			previousOfHomeTeam[row] = lastRowOfTeam[homeTeam];
+			previousOfAwayTeam[row] = lastRowOfTeam[awayTeam];
+			
+			lastRowOfTeam[homeTeam] = appended;
+			lastRowOfTeam[awayTeam] = appended;
+			appended++;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	public Optional<ArchivedGame> getByFinishSequence(long finishSequence) {
+		lock.readLock().lock();
+		try {
+			long low = evicted;
+			long high = appended;
+			
+			while (low < high) {
+				long middle = (low + high) >>> 1;
+				long found = finishSequences[rowOf(middle)];
+				
+				if (found == finishSequence) {
+					return Optional.of(gameAt(middle));
+				} else if (found < finishSequence) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return Optional.empty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	// The games of the team still held in memory, the last finished first
+	public List<ArchivedGame> getGamesOf(String teamId) {
+		lock.readLock().lock();
+		try {
+			List<ArchivedGame> games = new ArrayList<>();
+			Integer team = teamIds.get(teamId);
+			
+			long position = team == null ? NO_ROW : lastRowOfTeam[team];
+			while (position >= evicted) {
+				int row = rowOf(position);
+				
+				games.add(gameAt(position));
+				position = homeTeams[row] == team ? previousOfHomeTeam[row] : previousOfAwayTeam[row];
+			}
+			return games;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	// Writes one CSV line per game still held in memory that finished in [fromMillis, toMillis), returns the number of games written
+	public int export(long fromMillis, long toMillis, Writer out) throws IOException {
+		lock.readLock().lock();
+		try {
+			int exported = 0;
+			
+			out.write(EXPORT_HEADER);
+			for (long position = evicted; position < appended; position++) {
+				int row = rowOf(position);
+				
+				if (finishedMillis[row] >= fromMillis && finishedMillis[row] < toMillis) {
+					out.write(csvOf(row));
+					exported++;
+				}
+			}
+			out.flush();
+			
+			return exported;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	public int export(LocalDate matchDay, ZoneId zone, Writer out) throws IOException {
+		long from = matchDay.atStartOfDay(zone).toInstant().toEpochMilli();
+		long to = matchDay.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+		
+		return export(from, to, out);
+	}
+	
+	// Reads back the games written to the spill file, oldest first
+	public void forEachSpilled(Consumer<ArchivedGame> consumer) {
+		if (spillFile == null) {
+			return;
+		}
+		
+		lock.writeLock().lock();
+		try {
+			if (spill != null) {
+				spill.flush();
+			}
+			if (!Files.exists(spillFile)) {
+				return;
+			}
+			
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)))) {
+				while (true) {
+					ArchivedGame game;
+					try {
+						game = readSpilled(in);
+					} catch (EOFException e) {
+						return;
+					}
+					consumer.accept(game);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return (int) (appended - evicted);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	public long getEvictedGames() {
+		lock.readLock().lock();
+		try {
+			return evicted;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	// The most games the cap holds when their team names take no memory
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	// The rows and the team dictionary, never above the memory cap but for the names of a single game larger than it
+	public long getUsedBytes() {
+		lock.readLock().lock();
+		try {
+			return usedBytes();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		lock.writeLock().lock();
+		try {
+			if (spill != null) {
+				spill.close();
+				spill = null;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	private long usedBytes() {
+		return (appended - evicted) * BYTES_PER_GAME + teamBytes;
+	}
+	
+	private void evictOldest() {
+		int row = rowOf(evicted);
+		
+		if (spillFile != null) {
+			spill(row);
+		}
+		evicted++;
+		
+		released(homeTeams[row]);
+		released(awayTeams[row]);
+	}
+	
+	private void spill(int row) {
+		try {
+			if (spill == null) {
+				spill = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+			}
+			
+			spill.writeLong(finishSequences[row]);
+			spill.writeLong(finishedMillis[row]);
+			spill.writeByte(sports[row]);
+			spill.writeUTF(teamNames.get(homeTeams[row]));
+			spill.writeInt(homeTeamScores[row]);
+			spill.writeUTF(teamNames.get(awayTeams[row]));
+			spill.writeInt(awayTeamScores[row]);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static ArchivedGame readSpilled(DataInputStream in) throws IOException {
+		long finishSequence = in.readLong();
+		long finishedAt = in.readLong();
+		Sports sport = SPORTS[in.readByte()];
+		String homeTeamId = in.readUTF();
+		int homeTeamScore = in.readInt();
+		String awayTeamId = in.readUTF();
+		int awayTeamScore = in.readInt();
+		
+		return new ArchivedGame(homeTeamId, homeTeamScore, awayTeamId, awayTeamScore, sport, finishSequence, finishedAt);
+	}
+	
+	private ArchivedGame gameAt(long position) {
+		int row = rowOf(position);
+		
+		return new ArchivedGame(teamNames.get(homeTeams[row]), homeTeamScores[row], teamNames.get(awayTeams[row]), awayTeamScores[row],
+				SPORTS[sports[row]], finishSequences[row], finishedMillis[row]);
+	}
+	
+	private String csvOf(int row) {
+		return finishSequences[row] + "," + finishedMillis[row] + "," + SPORTS[sports[row]] + "," + teamNames.get(homeTeams[row]) + ","
+				+ homeTeamScores[row] + "," + teamNames.get(awayTeams[row]) + "," + awayTeamScores[row] + "\n";
+	}
+	
+	// Every call holds the team in the dictionary until a row of the team is evicted
+	private int teamIdOf(String teamId) {
+		Integer team = teamIds.get(teamId);
+		
+		if (team == null) {
+			team = freeTeams.isEmpty() ? teamNames.size() : freeTeams.pop();
+			if (team == teamNames.size()) {
+				teamNames.add(teamId);
+			} else {
+				teamNames.set(team, teamId);
+			}
+			teamIds.put(teamId, team);
+			teamBytes += bytesOf(teamId);
+			
+			if (team == lastRowOfTeam.length) {
+				int previous = lastRowOfTeam.length;
+				lastRowOfTeam = Arrays.copyOf(lastRowOfTeam, Math.max(16, 2 * previous));
+				rowsOfTeam = Arrays.copyOf(rowsOfTeam, lastRowOfTeam.length);
+				Arrays.fill(lastRowOfTeam, previous, lastRowOfTeam.length, NO_ROW);
+			}
+		}
+		rowsOfTeam[team]++;
+		
+		return team;
+	}
+	
+	private void released(int team) {
+		if (--rowsOfTeam[team] == 0) {
+			String teamId = teamNames.set(team, null);
+			
+			teamIds.remove(teamId);
+			teamBytes -= bytesOf(teamId);
+			lastRowOfTeam[team] = NO_ROW;
+			freeTeams.push(team);
+		}
+	}
+	
+	private static long bytesOf(String teamId) {
+		return BYTES_PER_TEAM + 2L * teamId.length();
+	}
+	
+	// The columns keep growing after the ring wrapped when team names filled the cap first, so a row moves whenever they grow
+	private int rowOf(long position) {
+		return (int) (position % finishSequences.length);
+	}
+	
+	private void allocate(int rows) {
+		if (finishSequences == null) {
+			finishSequences = new long[rows];
+			finishedMillis = new long[rows];
+			homeTeams = new int[rows];
+			awayTeams = new int[rows];
+			homeTeamScores = new int[rows];
+			awayTeamScores = new int[rows];
+			sports = new byte[rows];
+			previousOfHomeTeam = new long[rows];
+			previousOfAwayTeam = new long[rows];
+			return;
+		}
+		if (rows == finishSequences.length) {
+			return;
+		}
+		
+		finishSequences = moved(finishSequences, new long[rows]);
+		finishedMillis = moved(finishedMillis, new long[rows]);
+		homeTeams = moved(homeTeams, new int[rows]);
+		awayTeams = moved(awayTeams, new int[rows]);
+		homeTeamScores = moved(homeTeamScores, new int[rows]);
+		awayTeamScores = moved(awayTeamScores, new int[rows]);
+		sports = moved(sports, new byte[rows]);
+		previousOfHomeTeam = moved(previousOfHomeTeam, new long[rows]);
+		previousOfAwayTeam = moved(previousOfAwayTeam, new long[rows]);
+	}
+	
+	// Copies the live rows from evicted to appended to the row their position takes in the grown column, in as few runs as
+	// the two rings allow
+	private <T> T moved(T column, T grown) {
+		int from = Array.getLength(column);
+		int to = Array.getLength(grown);
+		
+		for (long position = evicted; position < appended;) {
+			int run = (int) Math.min(appended - position, Math.min(from - position % from, to - position % to));
+			
+			System.arraycopy(column, (int) (position % from), grown, (int) (position % to), run);
+			position += run;
+		}
+		return grown;
+	}
+}
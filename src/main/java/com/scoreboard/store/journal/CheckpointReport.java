@@ -0,0 +1,36 @@
+package com.scoreboard.store.journal;
+
+public final class CheckpointReport {
+	private final long segment;
+	private final int games;
+	private final long bytes;
+	private final long durationNanos;
+	
+	public CheckpointReport(long segment, int games, long bytes, long durationNanos) {
+		this.segment = segment;
+		this.games = games;
+		this.bytes = bytes;
+		this.durationNanos = durationNanos;
+	}
+
+	public long getSegment() {
+		return segment;
+	}
+
+	public int getGames() {
+		return games;
+	}
+
+	public long getBytes() {
+		return bytes;
+	}
+
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "CheckpointReport [segment=" + segment + ", games=" + games + ", bytes=" + bytes + ", durationNanos=" + durationNanos + "]";
+	}
+}
@@ -0,0 +1,280 @@
+package com.scoreboard.store.journal;
+
+import static java.lang.String.format;
+import static java.util.Comparator.naturalOrder;
+import static java.util.stream.Collectors.toList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.Sports;
+
+public final class GameJournal implements Closeable {
+	private static final String SEGMENT_FILE = "segment-%019d.journal";
+	private static final String SNAPSHOT_FILE = "snapshot-%019d.bin";
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SEGMENT_SUFFIX = ".journal";
+	private static final String SNAPSHOT_SUFFIX = ".bin";
+	private static final String SYNC_THREAD_NAME = "score-board-journal-sync";
+	
+	private final Path directory;
+	
+	private final int syncEveryRecords;
+	private final long syncIntervalNanos;
+	
+	private final ReentrantLock lock;
+	
+	// Only started with a sync interval, it syncs records left behind by a burst once the interval passes without new appends
+	private final ScheduledExecutorService syncer;
+	
+	private JournalSegment segment;
+	
+	private int recordsSinceSync;
+	private long lastSyncNanos;
+	
+	private GameJournal(Path directory, int syncEveryRecords, long syncIntervalNanos) throws IOException {
+		this.directory = Files.createDirectories(directory);
+		this.syncEveryRecords = syncEveryRecords;
+		this.syncIntervalNanos = syncIntervalNanos;
+		
+		lock = new ReentrantLock();
+		
+		List<Long> segments = numbersOf(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+		long current = segments.isEmpty() ? 1L : segments.get(segments.size() - 1);
+		segment = new JournalSegment(current, segmentFile(current));
+		lastSyncNanos = System.nanoTime();
+		
+		syncer = syncIntervalNanos > 0 ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, SYNC_THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		}) : null;
+		if (syncer != null) {
+			syncer.scheduleWithFixedDelay(this::syncIfDue, syncIntervalNanos, syncIntervalNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+	
+	// Records are only fsynced by sync() and close(): they survive a crash of the process (the segment is memory-mapped)
+	// but not of the machine
+	public static GameJournal open(Path directory) {
+		return open(directory, 0, 0, TimeUnit.MILLISECONDS);
+	}
+	
+	// Records are fsynced once syncEveryRecords are appended, and at most syncInterval after being appended
+	public static GameJournal open(Path directory, int syncEveryRecords, long syncInterval, TimeUnit unit) {
+		try {
+			return new GameJournal(directory, syncEveryRecords, unit.toNanos(syncInterval));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public void appendCreate(long sequence, String homeTeamId, String awayTeamId, Sports sport) {
+		lock.lock();
+		try {
+			segment.appendCreate(sequence, homeTeamId, awayTeamId, sport);
+			appended();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public void appendUpdate(long sequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore) {
+		lock.lock();
+		try {
+			segment.appendUpdate(sequence, homeTeamId, homeTeamScore, awayTeamId, awayTeamScore);
+			appended();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public void appendFinish(long sequence, String homeTeamId, String awayTeamId) {
+		lock.lock();
+		try {
+			segment.appendFinish(sequence, homeTeamId, awayTeamId);
+			appended();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public RecoveryReport recover(JournalListener listener) {
+		lock.lock();
+		try {
+			long start = System.nanoTime();
+			int snapshotGames = 0;
+			int replayedSegments = 0;
+			int replayedRecords = 0;
+			
+			List<Long> snapshots = numbersOf(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+			long firstSegment = 0L;
+			if (!snapshots.isEmpty()) {
+				firstSegment = snapshots.get(snapshots.size() - 1);
+				snapshotGames = SnapshotFile.read(snapshotFile(firstSegment), listener);
+			}
+			
+			for (long number : numbersOf(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+				if (number == segment.getNumber()) {
+					replayedRecords += segment.replay(listener);
+					replayedSegments++;
+				} else if (number >= firstSegment) {
+					try (JournalSegment old = new JournalSegment(number, segmentFile(number))) {
+						replayedRecords += old.replay(listener);
+						replayedSegments++;
+					}
+				}
+			}
+			
+			return new RecoveryReport(snapshotGames, replayedSegments, replayedRecords, System.nanoTime() - start);
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public CheckpointReport checkpoint(Supplier<List<GameSummary>> consistentGames) {
+		long start = System.nanoTime();
+		long next = roll();
+		
+		List<GameSummary> games = consistentGames.get();
+		long bytes = SnapshotFile.write(snapshotFile(next), games);
+		
+		deleteBefore(next);
+		return new CheckpointReport(next, games.size(), bytes, System.nanoTime() - start);
+	}
+	
+	public void sync() {
+		lock.lock();
+		try {
+			segment.force();
+			synced();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	public long size() {
+		lock.lock();
+		try {
+			return segment.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	int getUnsyncedRecords() {
+		lock.lock();
+		try {
+			return recordsSinceSync;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	@Override
+	public void close() {
+		if (syncer != null) {
+			syncer.shutdownNow();
+		}
+		
+		lock.lock();
+		try {
+			segment.close();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private long roll() {
+		lock.lock();
+		try {
+			long next = segment.getNumber() + 1;
+			
+			segment.close();
+			segment = new JournalSegment(next, segmentFile(next));
+			synced();
+			
+			return next;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private void deleteBefore(long number) {
+		try {
+			for (long old : numbersOf(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+				if (old < number) {
+					Files.deleteIfExists(segmentFile(old));
+				}
+			}
+			for (long old : numbersOf(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+				if (old < number) {
+					Files.deleteIfExists(snapshotFile(old));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private void appended() {
+		recordsSinceSync++;
+		
+		if (syncEveryRecords > 0 && recordsSinceSync >= syncEveryRecords 
+				|| syncIntervalNanos > 0 && System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+			segment.force();
+			synced();
+		}
+	}
+	
+	private void syncIfDue() {
+		lock.lock();
+		try {
+			if (recordsSinceSync > 0 && System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+				segment.force();
+				synced();
+			}
+		} catch (RuntimeException e) {
+			// Keeps the task scheduled, the next run or append retries the sync
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private void synced() {
+		recordsSinceSync = 0;
+		lastSyncNanos = System.nanoTime();
+	}
+	
+	private Path segmentFile(long number) {
+		return directory.resolve(format(SEGMENT_FILE, number));
+	}
+	
+	private Path snapshotFile(long number) {
+		return directory.resolve(format(SNAPSHOT_FILE, number));
+	}
+	
+	private List<Long> numbersOf(String prefix, String suffix) {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString())
+					.filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+					.map(name -> Long.valueOf(name.substring(prefix.length(), name.length() - suffix.length())))
+					.sorted(naturalOrder())
+					.collect(toList());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.scoreboard.store.journal;
+
+import com.scoreboard.Sports;
+
+public interface JournalListener {
+	void onRestore(long sequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport);
+	void onCreate(long sequence, String homeTeamId, String awayTeamId, Sports sport);
+	void onUpdate(long sequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore);
+	void onFinish(long sequence, String homeTeamId, String awayTeamId);
+}
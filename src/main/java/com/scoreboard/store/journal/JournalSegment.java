@@ -0,0 +1,270 @@
+package com.scoreboard.store.journal;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.scoreboard.Sports;
+
+final class JournalSegment implements Closeable {
+	private static final String CORRUPTED_JOURNAL_EXCEPTION = "Corrupted journal record of type %s at position %s";
+	private static final String JOURNAL_TOO_LARGE_EXCEPTION = "The journal segment can't grow beyond %s bytes";
+	private static final String TEAM_NAME_TOO_LONG_EXCEPTION = "The team name can't be journaled, it is longer than %s bytes";
+	
+	private static final int MAX_TEAM_NAME_LENGTH = 0xFFFF;
+	
+	static final int RECORD_SIZE = 32;
+	
+	private static final byte END = 0;
+	private static final byte TEAM = 1;
+	private static final byte CREATE_GAME = 2;
+	private static final byte UPDATE_GAME = 3;
+	private static final byte FINISH_GAME = 4;
+	
+	private static final int TYPE_OFFSET = 0;
+	private static final int HOME_TEAM_OFFSET = 4;
+	private static final int AWAY_TEAM_OFFSET = 8;
+	private static final int HOME_SCORE_OFFSET = 12;
+	private static final int AWAY_SCORE_OFFSET = 16;
+	private static final int SPORT_OFFSET = 12;
+	private static final int SEQUENCE_OFFSET = 24;
+	private static final int TEAM_NAME_LENGTH_OFFSET = 2;
+	private static final int TEAM_ID_OFFSET = 4;
+	private static final int TEAM_NAME_OFFSET = 8;
+	
+	private static final int INITIAL_CAPACITY = 1 << 20;
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - RECORD_SIZE + 1;
+	
+	private final long number;
+	
+	private final FileChannel channel;
+	
+	private final Map<String, Integer> teamIds;
+	private final List<String> teamNames;
+	
+	private MappedByteBuffer buffer;
+	private int position;
+	
+	JournalSegment(long number, Path file) {
+		this.number = number;
+		
+		teamIds = new HashMap<>();
+		teamNames = new ArrayList<>();
+		
+		try {
+			channel = FileChannel.open(file, CREATE, READ, WRITE);
+			buffer = channel.map(READ_WRITE, 0, Math.max(INITIAL_CAPACITY, roundToRecords(channel.size())));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		position = scan();
+	}
+	
+	long getNumber() {
+		return number;
+	}
+	
+	int size() {
+		return position;
+	}
+	
+	void appendCreate(long sequence, String homeTeamId, String awayTeamId, Sports sport) {
+		int homeTeam = teamIdOf(homeTeamId);
+		int awayTeam = teamIdOf(awayTeamId);
+		int record = reserve(RECORD_SIZE);
+		
+		buffer.putInt(record + HOME_TEAM_OFFSET, homeTeam);
+		buffer.putInt(record + AWAY_TEAM_OFFSET, awayTeam);
+		buffer.putInt(record + SPORT_OFFSET, sport.ordinal());
+		commit(record, CREATE_GAME, sequence);
+	}
+	
+	void appendUpdate(long sequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore) {
+		int homeTeam = teamIdOf(homeTeamId);
+		int awayTeam = teamIdOf(awayTeamId);
+		int record = reserve(RECORD_SIZE);
+		
+		buffer.putInt(record + HOME_TEAM_OFFSET, homeTeam);
+		buffer.putInt(record + AWAY_TEAM_OFFSET, awayTeam);
+		buffer.putInt(record + HOME_SCORE_OFFSET, homeTeamScore);
+		buffer.putInt(record + AWAY_SCORE_OFFSET, awayTeamScore);
+		commit(record, UPDATE_GAME, sequence);
+	}
+	
+	void appendFinish(long sequence, String homeTeamId, String awayTeamId) {
+		int homeTeam = teamIdOf(homeTeamId);
+		int awayTeam = teamIdOf(awayTeamId);
+		int record = reserve(RECORD_SIZE);
+		
+		buffer.putInt(record + HOME_TEAM_OFFSET, homeTeam);
+		buffer.putInt(record + AWAY_TEAM_OFFSET, awayTeam);
+		commit(record, FINISH_GAME, sequence);
+	}
+	
+	int replay(JournalListener listener) {
+		int records = 0;
+		int record = 0;
+		
+		while (record < position) {
+			byte type = buffer.get(record + TYPE_OFFSET);
+			
+			if (type == TEAM) {
+				record += roundToRecords(TEAM_NAME_OFFSET + teamNameLength(record));
+			} else {
+				dispatch(record, type, listener);
+				record += RECORD_SIZE;
+				records++;
+			}
+		}
+		
+		return records;
+	}
+	
+	void force() {
+		buffer.force();
+	}
+	
+	@Override
+	public void close() {
+		try {
+			buffer.force();
+			channel.truncate(position);
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private int teamIdOf(String teamName) {
+		Integer teamId = teamIds.get(teamName);
+		
+		if (teamId == null) {
+			teamId = teamNames.size();
+			byte[] name = teamName.getBytes(UTF_8);
+			if (name.length > MAX_TEAM_NAME_LENGTH) {
+				throw new IllegalArgumentException(format(TEAM_NAME_TOO_LONG_EXCEPTION, MAX_TEAM_NAME_LENGTH));
+			}
+			
+			int record = reserve(roundToRecords(TEAM_NAME_OFFSET + name.length));
+			
+			buffer.putShort(record + TEAM_NAME_LENGTH_OFFSET, (short) name.length);
+			buffer.putInt(record + TEAM_ID_OFFSET, teamId);
+			for (int index = 0; index < name.length; index++) {
+				buffer.put(record + TEAM_NAME_OFFSET + index, name[index]);
+			}
+			buffer.put(record + TYPE_OFFSET, TEAM);
+			
+			teamIds.put(teamName, teamId);
+			teamNames.add(teamName);
+		}
+		
+		return teamId;
+	}
+	
+	private int reserve(int length) {
+		if (position + length > buffer.capacity()) {
+			grow(position + length);
+		}
+		
+		int record = position;
+		position += length;
+		return record;
+	}
+	
+	private void commit(int record, byte type, long sequence) {
+		buffer.putLong(record + SEQUENCE_OFFSET, sequence);
+		buffer.put(record + TYPE_OFFSET, type);
+	}
+	
+	private void grow(int minimumCapacity) {
+		long capacity = buffer.capacity();
+		while (capacity < minimumCapacity) {
+			capacity *= 2;
+		}
+		
+		if (capacity > MAX_CAPACITY) {
+			if (minimumCapacity > MAX_CAPACITY) {
+				throw new IllegalStateException(format(JOURNAL_TOO_LARGE_EXCEPTION, MAX_CAPACITY));
+			}
+			capacity = MAX_CAPACITY;
+		}
+		
+		try {
+			buffer.force();
+			buffer = channel.map(READ_WRITE, 0, capacity);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private int scan() {
+		int record = 0;
+		
+		while (record + RECORD_SIZE <= buffer.capacity()) {
+			byte type = buffer.get(record + TYPE_OFFSET);
+			
+			switch (type) {
+				case END:
+					return record;
+				case TEAM:
+					int length = teamNameLength(record);
+					byte[] name = new byte[length];
+					for (int index = 0; index < length; index++) {
+						name[index] = buffer.get(record + TEAM_NAME_OFFSET + index);
+					}
+					
+					String teamName = new String(name, UTF_8);
+					teamIds.put(teamName, teamNames.size());
+					teamNames.add(teamName);
+					record += roundToRecords(TEAM_NAME_OFFSET + length);
+					break;
+				case CREATE_GAME:
+				case UPDATE_GAME:
+				case FINISH_GAME:
+					record += RECORD_SIZE;
+					break;
+				default:
+					throw new IllegalStateException(format(CORRUPTED_JOURNAL_EXCEPTION, type, record));
+			}
+		}
+		
+		return record;
+	}
+	
+	private int teamNameLength(int record) {
+		return buffer.getShort(record + TEAM_NAME_LENGTH_OFFSET) & MAX_TEAM_NAME_LENGTH;
+	}
+	
+	private void dispatch(int record, byte type, JournalListener listener) {
+		long sequence = buffer.getLong(record + SEQUENCE_OFFSET);
+		String homeTeamId = teamNames.get(buffer.getInt(record + HOME_TEAM_OFFSET));
+		String awayTeamId = teamNames.get(buffer.getInt(record + AWAY_TEAM_OFFSET));
+		
+		if (type == CREATE_GAME) {
+			listener.onCreate(sequence, homeTeamId, awayTeamId, Sports.values()[buffer.getInt(record + SPORT_OFFSET)]);
+		} else if (type == UPDATE_GAME) {
+			listener.onUpdate(sequence, homeTeamId, buffer.getInt(record + HOME_SCORE_OFFSET), awayTeamId, buffer.getInt(record + AWAY_SCORE_OFFSET));
+		} else {
+			listener.onFinish(sequence, homeTeamId, awayTeamId);
+		}
+	}
+	
+	private static int roundToRecords(long length) {
+		return (int) ((length + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE);
+	}
+}
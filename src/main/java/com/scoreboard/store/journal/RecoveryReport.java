@@ -0,0 +1,39 @@
+package com.scoreboard.store.journal;
+
+public final class RecoveryReport {
+	public static final RecoveryReport NONE = new RecoveryReport(0, 0, 0, 0L);
+	
+	private final int snapshotGames;
+	private final int replayedSegments;
+	private final int replayedRecords;
+	private final long durationNanos;
+	
+	public RecoveryReport(int snapshotGames, int replayedSegments, int replayedRecords, long durationNanos) {
+		this.snapshotGames = snapshotGames;
+		this.replayedSegments = replayedSegments;
+		this.replayedRecords = replayedRecords;
+		this.durationNanos = durationNanos;
+	}
+
+	public int getSnapshotGames() {
+		return snapshotGames;
+	}
+
+	public int getReplayedSegments() {
+		return replayedSegments;
+	}
+
+	public int getReplayedRecords() {
+		return replayedRecords;
+	}
+
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "RecoveryReport [snapshotGames=" + snapshotGames + ", replayedSegments=" + replayedSegments
+				+ ", replayedRecords=" + replayedRecords + ", durationNanos=" + durationNanos + "]";
+	}
+}
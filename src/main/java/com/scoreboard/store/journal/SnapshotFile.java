@@ -0,0 +1,119 @@
+package com.scoreboard.store.journal;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.Sports;
+
+final class SnapshotFile {
+	private static final String CORRUPTED_SNAPSHOT_EXCEPTION = "Corrupted snapshot file: %s";
+	
+	private static final int MAGIC = 0x53424E50;
+	private static final int HEADER_SIZE = 4 + 4;
+	private static final int GAME_FIXED_SIZE = 1 + 4 + 4 + 8 + 2 + 2;
+	private static final int BUFFER_SIZE = 1 << 16;
+	
+	private SnapshotFile() {
+	}
+	
+	static long write(Path file, List<GameSummary> games) {
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		long bytes = 0;
+		
+		try (FileChannel channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+			buffer.putInt(MAGIC).putInt(games.size());
+			
+			for (GameSummary game : games) {
+				byte[] homeTeamId = game.getHomeTeamId().getBytes(UTF_8);
+				byte[] awayTeamId = game.getAwayTeamId().getBytes(UTF_8);
+				int size = GAME_FIXED_SIZE + homeTeamId.length + awayTeamId.length;
+				
+				if (buffer.remaining() < size) {
+					bytes += drain(channel, buffer);
+					if (buffer.capacity() < size) {
+						buffer = ByteBuffer.allocate(size);
+					}
+				}
+				
+				buffer.put((byte) game.getSport().ordinal())
+					.putInt(game.getHomeTeamScore())
+					.putInt(game.getAwayTeamScore())
+					.putLong(game.getSequence())
+					.putShort((short) homeTeamId.length).put(homeTeamId)
+					.putShort((short) awayTeamId.length).put(awayTeamId);
+			}
+			
+			bytes += drain(channel, buffer);
+			channel.force(true);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		try {
+			Files.move(temporary, file, ATOMIC_MOVE, REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		return bytes;
+	}
+	
+	static int read(Path file, JournalListener listener) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+			
+			if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+				throw new IllegalStateException(format(CORRUPTED_SNAPSHOT_EXCEPTION, file));
+			}
+			
+			int games = buffer.getInt();
+			for (int game = 0; game < games; game++) {
+				Sports sport = Sports.values()[buffer.get()];
+				int homeTeamScore = buffer.getInt();
+				int awayTeamScore = buffer.getInt();
+				long sequence = buffer.getLong();
+				String homeTeamId = readTeamId(buffer);
+				String awayTeamId = readTeamId(buffer);
+				
+				listener.onRestore(sequence, homeTeamId, homeTeamScore, awayTeamId, awayTeamScore, sport);
+			}
+			
+			return games;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static String readTeamId(ByteBuffer buffer) {
+		byte[] teamId = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(teamId);
+		return new String(teamId, UTF_8);
+	}
+	
+	private static long drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+		long bytes = 0;
+		
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			bytes += channel.write(buffer);
+		}
+		buffer.clear();
+		
+		return bytes;
+	}
+}
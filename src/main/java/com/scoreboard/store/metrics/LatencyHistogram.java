@@ -0,0 +1,88 @@
+package com.scoreboard.store.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear buckets in the HdrHistogram style: 32 linear sub-buckets per power of two, so every value is kept within ~3%
+public final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+	
+	private final AtomicLongArray counts;
+	private final LongAdder sum;
+	private final LongAccumulator max;
+	
+	public LatencyHistogram() {
+		counts = new AtomicLongArray(BUCKETS);
+		sum = new LongAdder();
+		max = new LongAccumulator(Math::max, 0L);
+	}
+	
+	public void record(long value) {
+		long recorded = Math.max(0L, value);
+		
+		counts.incrementAndGet(indexOf(recorded));
+		sum.add(recorded);
+		max.accumulate(recorded);
+	}
+	
+	public HistogramSnapshot snapshot() {
+		long[] copy = new long[BUCKETS];
+		long count = 0;
+		
+		for (int index = 0; index < BUCKETS; index++) {
+			copy[index] = counts.get(index);
+			count += copy[index];
+		}
+		
+		long highest = max.get();
+		return new HistogramSnapshot(count, count == 0 ? 0.0 : (double) sum.sum() / count, highest, 
+				percentile(copy, count, highest, 50.0), 
+				percentile(copy, count, highest, 90.0), 
+				percentile(copy, count, highest, 99.0), 
+				percentile(copy, count, highest, 99.9));
+	}
+	
+	static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+		
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+	
+	static long highestValueOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		
+		int shift = index / SUB_BUCKETS - 1;
+		long subBucket = SUB_BUCKETS + index % SUB_BUCKETS;
+		
+		return ((subBucket + 1) << shift) - 1;
+	}
+	
+	private static long percentile(long[] counts, long count, long highest, double percentile) {
+		if (count == 0) {
+			return 0L;
+		}
+		
+		long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+		long seen = 0;
+		
+		for (int index = 0; index < counts.length; index++) {
+			seen += counts[index];
+			if (seen >= rank) {
+				return Math.min(highestValueOf(index), highest);
+			}
+		}
+		
+		return highest;
+	}
+}
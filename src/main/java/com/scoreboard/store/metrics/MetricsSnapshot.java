@@ -0,0 +1,75 @@
+package com.scoreboard.store.metrics;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.store.metrics.StoreMetrics.Operation;
+
+public final class MetricsSnapshot {
+	private final int liveGames;
+	private final Map<Operation, HistogramSnapshot> latencies;
+	private final Map<Operation, Long> failures;
+	private final Map<ResultCode, Long> results;
+	private final HistogramSnapshot lockWait;
+	private final HistogramSnapshot lockHold;
+	
+	public MetricsSnapshot(int liveGames, Map<Operation, HistogramSnapshot> latencies, Map<Operation, Long> failures, 
+			Map<ResultCode, Long> results, HistogramSnapshot lockWait, HistogramSnapshot lockHold) {
+		this.liveGames = liveGames;
+		this.latencies = unmodifiableMap(latencies);
+		this.failures = unmodifiableMap(failures);
+		this.results = unmodifiableMap(results);
+		this.lockWait = lockWait;
+		this.lockHold = lockHold;
+	}
+	
+	static MetricsSnapshot empty(int liveGames) {
+		return new MetricsSnapshot(liveGames, new EnumMap<>(Operation.class), new EnumMap<>(Operation.class), 
+				new EnumMap<>(ResultCode.class), HistogramSnapshot.EMPTY, HistogramSnapshot.EMPTY);
+	}
+
+	public int getLiveGames() {
+		return liveGames;
+	}
+	
+	public HistogramSnapshot getLatency(Operation operation) {
+		return latencies.getOrDefault(operation, HistogramSnapshot.EMPTY);
+	}
+	
+	public long getFailures(Operation operation) {
+		return failures.getOrDefault(operation, 0L);
+	}
+	
+	public long getCount(ResultCode result) {
+		return results.getOrDefault(result, 0L);
+	}
+
+	public Map<Operation, HistogramSnapshot> getLatencies() {
+		return latencies;
+	}
+
+	public Map<Operation, Long> getFailures() {
+		return failures;
+	}
+
+	public Map<ResultCode, Long> getResults() {
+		return results;
+	}
+
+	public HistogramSnapshot getLockWait() {
+		return lockWait;
+	}
+
+	public HistogramSnapshot getLockHold() {
+		return lockHold;
+	}
+
+	@Override
+	public String toString() {
+		return "MetricsSnapshot [liveGames=" + liveGames + ", latencies=" + latencies + ", failures=" + failures
+				+ ", results=" + results + ", lockWait=" + lockWait + ", lockHold=" + lockHold + "]";
+	}
+}
@@ -0,0 +1,85 @@
+package com.scoreboard.store.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.scoreboard.ResultCode;
+
+final class RecordingStoreMetrics implements StoreMetrics {
+	private static final Operation[] OPERATIONS = Operation.values();
+	private static final ResultCode[] RESULTS = ResultCode.values();
+	
+	private final LatencyHistogram[] latencies;
+	private final LongAdder[] failures;
+	private final LongAdder[] results;
+	
+	private final LatencyHistogram lockWait;
+	private final LatencyHistogram lockHold;
+	
+	RecordingStoreMetrics() {
+		latencies = new LatencyHistogram[OPERATIONS.length];
+		failures = new LongAdder[OPERATIONS.length];
+		for (Operation operation : OPERATIONS) {
+			latencies[operation.ordinal()] = new LatencyHistogram();
+			failures[operation.ordinal()] = new LongAdder();
+		}
+		
+		results = new LongAdder[RESULTS.length];
+		for (ResultCode result : RESULTS) {
+			results[result.ordinal()] = new LongAdder();
+		}
+		
+		lockWait = new LatencyHistogram();
+		lockHold = new LatencyHistogram();
+	}
+
+	@Override
+	public long start() {
+		return System.nanoTime();
+	}
+
+	@Override
+	public long lockAcquired(long waitStart) {
+		long acquired = System.nanoTime();
+		
+		lockWait.record(acquired - waitStart);
+		return acquired;
+	}
+
+	@Override
+	public void lockReleased(long acquired) {
+		lockHold.record(System.nanoTime() - acquired);
+	}
+
+	@Override
+	public void count(ResultCode result) {
+		results[result.ordinal()].increment();
+	}
+
+	@Override
+	public void completed(Operation operation, boolean success, long start) {
+		latencies[operation.ordinal()].record(System.nanoTime() - start);
+		
+		if (!success) {
+			failures[operation.ordinal()].increment();
+		}
+	}
+
+	@Override
+	public MetricsSnapshot snapshot(int liveGames) {
+		Map<Operation, HistogramSnapshot> latencySnapshots = new EnumMap<>(Operation.class);
+		Map<Operation, Long> failureCounts = new EnumMap<>(Operation.class);
+		for (Operation operation : OPERATIONS) {
+			latencySnapshots.put(operation, latencies[operation.ordinal()].snapshot());
+			failureCounts.put(operation, failures[operation.ordinal()].sum());
+		}
+		
+		Map<ResultCode, Long> resultCounts = new EnumMap<>(ResultCode.class);
+		for (ResultCode result : RESULTS) {
+			resultCounts.put(result, results[result.ordinal()].sum());
+		}
+		
+		return new MetricsSnapshot(liveGames, latencySnapshots, failureCounts, resultCounts, lockWait.snapshot(), lockHold.snapshot());
+	}
+}
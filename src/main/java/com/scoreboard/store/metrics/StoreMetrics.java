@@ -0,0 +1,50 @@
+package com.scoreboard.store.metrics;
+
+import com.scoreboard.ResultCode;
+
+public interface StoreMetrics {
+	enum Operation {
+		CREATE, UPDATE, FINISH, BATCH, SNAPSHOT_REBUILD;
+	}
+	
+	// Every method is a no-op, so a store without metrics doesn't even read the clock
+	StoreMetrics DISABLED = new StoreMetrics() {
+		@Override
+		public long start() {
+			return 0L;
+		}
+
+		@Override
+		public long lockAcquired(long waitStart) {
+			return 0L;
+		}
+
+		@Override
+		public void lockReleased(long acquired) {
+		}
+
+		@Override
+		public void count(ResultCode result) {
+		}
+
+		@Override
+		public void completed(Operation operation, boolean success, long start) {
+		}
+
+		@Override
+		public MetricsSnapshot snapshot(int liveGames) {
+			return MetricsSnapshot.empty(liveGames);
+		}
+	};
+	
+	static StoreMetrics recording() {
+		return new RecordingStoreMetrics();
+	}
+	
+	long start();
+	long lockAcquired(long waitStart);
+	void lockReleased(long acquired);
+	void count(ResultCode result);
+	void completed(Operation operation, boolean success, long start);
+	MetricsSnapshot snapshot(int liveGames);
+}
@@ -0,0 +1,87 @@
+package com.scoreboard.store.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.scoreboard.store.metrics.StoreMetrics.Operation;
+
+public final class StoreMetricsBean implements StoreMetricsMXBean {
+	private final Supplier<MetricsSnapshot> metrics;
+	
+	public StoreMetricsBean(Supplier<MetricsSnapshot> metrics) {
+		this.metrics = metrics;
+	}
+	
+	public static ObjectName register(String name, Supplier<MetricsSnapshot> metrics) {
+		try {
+			ObjectName objectName = new ObjectName(name);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new StoreMetricsBean(metrics), objectName);
+			
+			return objectName;
+		} catch (JMException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public int getLiveGames() {
+		return metrics.get().getLiveGames();
+	}
+
+	@Override
+	public Map<String, Long> getOperationCounts() {
+		return byOperation(metrics.get(), HistogramSnapshot::getCount);
+	}
+
+	@Override
+	public Map<String, Long> getOperationFailures() {
+		Map<String, Long> failures = new LinkedHashMap<>();
+		
+		metrics.get().getFailures().forEach((operation, count) -> failures.put(operation.name(), count));
+		return failures;
+	}
+
+	@Override
+	public Map<String, Long> getResultCounts() {
+		Map<String, Long> results = new LinkedHashMap<>();
+		
+		metrics.get().getResults().forEach((result, count) -> results.put(result.name(), count));
+		return results;
+	}
+
+	@Override
+	public Map<String, Long> getLatencyP99Nanos() {
+		return byOperation(metrics.get(), HistogramSnapshot::getP99);
+	}
+
+	@Override
+	public Map<String, Long> getLatencyMaxNanos() {
+		return byOperation(metrics.get(), HistogramSnapshot::getMax);
+	}
+
+	@Override
+	public long getLockWaitP99Nanos() {
+		return metrics.get().getLockWait().getP99();
+	}
+
+	@Override
+	public long getLockHoldP99Nanos() {
+		return metrics.get().getLockHold().getP99();
+	}
+	
+	private static Map<String, Long> byOperation(MetricsSnapshot snapshot, Function<HistogramSnapshot, Long> value) {
+		Map<String, Long> values = new LinkedHashMap<>();
+		
+		for (Entry<Operation, HistogramSnapshot> latency : snapshot.getLatencies().entrySet()) {
+			values.put(latency.getKey().name(), value.apply(latency.getValue()));
+		}
+		return values;
+	}
+}
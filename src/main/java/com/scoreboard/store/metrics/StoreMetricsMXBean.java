@@ -0,0 +1,14 @@
+package com.scoreboard.store.metrics;
+
+import java.util.Map;
+
+public interface StoreMetricsMXBean {
+	int getLiveGames();
+	Map<String, Long> getOperationCounts();
+	Map<String, Long> getOperationFailures();
+	Map<String, Long> getResultCounts();
+	Map<String, Long> getLatencyP99Nanos();
+	Map<String, Long> getLatencyMaxNanos();
+	long getLockWaitP99Nanos();
+	long getLockHoldP99Nanos();
+}
@@ -1,15 +1,17 @@
 package com.scoreboard;
 
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NON_EXISTENT_GAME;
 import static com.scoreboard.Sports.FOOTBALL;
-import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.HashSet;
-import java.util.Map;
 import java.util.concurrent.Semaphore;
 
 import org.junit.Rule;
@@ -20,8 +22,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import com.scoreboard.store.FootballGame;
+import com.scoreboard.store.GameTable;
 import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+import com.scoreboard.store.ScoreRules;
+import com.scoreboard.store.SportGame;
 import com.scoreboard.store.Team;
 
 @RunWith(MockitoJUnitRunner.class)  
@@ -30,7 +34,7 @@ public class GameManagementTest {
 	public ExpectedException expectedEx = ExpectedException.none();
 	
 	@Mock
-	private Map<String, TwoTeamsGame> currentGames;
+	private GameTable currentGames;
 	
 	@Mock
 	private GameCreator gameFactory;
@@ -43,13 +47,12 @@ public class GameManagementTest {
 	
 	@Test
 	public void checkCreateGameWhenNoneOfTheTeamsArePlayingCreatesANewGame() throws InterruptedException {
-		when(gameFactory.createGame("a", "b", FOOTBALL)).thenReturn(aFootBallGame("a", "b"));
+		when(gameFactory.createGame(new Team("a"), new Team("b"), FOOTBALL, 1L)).thenReturn(aFootBallGame("a", "b"));
 		
 		gameManagement.createGame("a", "b", FOOTBALL);
 		
-		verify(gameFactory).createGame("a", "b", FOOTBALL);
-		verify(currentGames, times(2)).keySet();
-		verify(currentGames).put("a-b", aFootBallGame("a", "b"));
+		verify(gameFactory).createGame(new Team("a"), new Team("b"), FOOTBALL, 1L);
+		verify(currentGames).put(GameTable.keyOf(0, 1), aFootBallGame("a", "b"));
 		verify(lock).acquire();
 		verify(lock).release();
 		verifyNoMoreInteractions(lock, gameFactory, currentGames);
@@ -57,31 +60,28 @@ public class GameManagementTest {
 
 	@Test
 	public void checkCreateGameWhenOneOfTheTeamsAreAlreadyPlayingDoesNotCreateANewGame() throws InterruptedException {
-		when(currentGames.keySet()).thenReturn(new HashSet<>(asList("m-a"))); //This would be from a: m-a -> new FootballGame(new Team("m"), new Team("a"));
+		when(gameFactory.createGame(new Team("m"), new Team("a"), FOOTBALL, 1L)).thenReturn(aFootBallGame("m", "a"));
+		gameManagement.createGame("m", "a", FOOTBALL);
 		
 		gameManagement.createGame("a", "b", FOOTBALL);
 		
-		verify(currentGames).keySet();
-		verify(lock).acquire();
-		verify(lock).release();
+		verify(gameFactory).createGame(new Team("m"), new Team("a"), FOOTBALL, 1L);
+		verify(currentGames).put(GameTable.keyOf(0, 1), aFootBallGame("m", "a"));
+		verify(lock, times(2)).acquire();
+		verify(lock, times(2)).release();
 		verifyNoMoreInteractions(lock, gameFactory, currentGames);
 	}
 	
 	@Test
 	public void checkUpdateExistingGameScoreCallsExistingGameUpdateScore() throws InterruptedException {
-		FootballGame game = mock(FootballGame.class);
-		
-		when(currentGames.containsKey("a-b")).thenReturn(true);
-		when(currentGames.get("a-b")).thenReturn(game);
+		SportGame game = givenAPlayingGame("a", "b");
 		
 		gameManagement.updateGameScore("a", 1, "b", 0);
 		
-		verify(currentGames).containsKey("a-b");
-		verify(currentGames).get("a-b");
-		verify(game).updateScores(1, 0);
-		verify(lock).acquire();
-		verify(lock).release();
-		verifyNoMoreInteractions(lock, gameFactory, currentGames, game);
+		verify(currentGames, times(2)).get(GameTable.keyOf(0, 1));
+		verify(game, times(2)).getSequence();
+		verify(game).updateScores(1, 0, 2L);
+		verifyNoMoreInteractions(currentGames, game);
 	}
 	
 	@Test
@@ -89,26 +89,42 @@ public class GameManagementTest {
 		expectedEx.expect(RuntimeException.class);
 		expectedEx.expectMessage("The game with id: a-b does not exist");
 		
-		when(currentGames.containsKey("a-b")).thenReturn(false);
-		
 		gameManagement.updateGameScore("a", 1, "b", 0);
 		
-		verify(currentGames).containsKey("a-b");
-		verify(lock).acquire();
-		verify(lock).release();
+		verifyNoMoreInteractions(lock, gameFactory, currentGames);
+	}
+	
+	@Test
+	public void checkTryUpdateExistingGameScoreReturnsTheGameResult() throws InterruptedException {
+		SportGame game = givenAPlayingGame("a", "b");
+		when(game.tryUpdateScores(2, 0, 2L)).thenReturn(INVALID_HOME_TEAM_SCORE);
+		
+		assertThat(gameManagement.tryUpdateGameScore("a", 2, "b", 0), is(INVALID_HOME_TEAM_SCORE));
+		
+		verify(currentGames).get(GameTable.keyOf(0, 1));
+		verify(game).getSequence();
+		verify(game).tryUpdateScores(2, 0, 2L);
+		verifyNoMoreInteractions(currentGames, game);
+	}
+	
+	@Test
+	public void checkTryUpdateNonExistingGameScoreReturnsNonExistentGame() throws InterruptedException {
+		assertThat(gameManagement.tryUpdateGameScore("a", 1, "b", 0), is(NON_EXISTENT_GAME));
+		
 		verifyNoMoreInteractions(lock, gameFactory, currentGames);
 	}
 	
 	@Test
 	public void checkFinishExistingGameRemovesTheGame() throws InterruptedException {
-		when(currentGames.remove("a-b")).thenReturn(aFootBallGame("a", "b"));
+		SportGame game = givenAPlayingGame("a", "b");
 		
 		gameManagement.finishGame("a", "b");
 		
-		verify(currentGames).remove("a-b");
-		verify(lock).acquire();
-		verify(lock).release();
-		verifyNoMoreInteractions(lock, gameFactory, currentGames);
+		verify(currentGames).get(GameTable.keyOf(0, 1));
+		verify(currentGames).remove(GameTable.keyOf(0, 1));
+		verify(lock, times(2)).acquire();
+		verify(lock, times(2)).release();
+		verifyNoMoreInteractions(lock, currentGames);
 	}
 	
 	@Test
@@ -116,17 +132,25 @@ public class GameManagementTest {
 		expectedEx.expect(RuntimeException.class);
 		expectedEx.expectMessage("The game with id: a-b does not exist");
 		
-		when(currentGames.remove("a-b")).thenReturn(null);
-		
 		gameManagement.finishGame("a", "b");
 		
-		verify(currentGames).remove("a-b");
 		verify(lock).acquire();
 		verify(lock).release();
 		verifyNoMoreInteractions(lock, gameFactory, currentGames);
 	}
 	
-	private FootballGame aFootBallGame(String homeTeamId, String awayTeamId) {
-		return new FootballGame(new Team(homeTeamId), new Team(awayTeamId));
+	private SportGame givenAPlayingGame(String homeTeamId, String awayTeamId) throws InterruptedException {
+		SportGame game = mock(SportGame.class);
+		
+		when(gameFactory.createGame(new Team(homeTeamId), new Team(awayTeamId), FOOTBALL, 1L)).thenReturn(game);
+		gameManagement.createGame(homeTeamId, awayTeamId, FOOTBALL);
+		when(currentGames.get(GameTable.keyOf(0, 1))).thenReturn(game);
+		clearInvocations(currentGames, game);
+		
+		return game;
+	}
+	
+	private SportGame aFootBallGame(String homeTeamId, String awayTeamId) {
+		return new SportGame(new Team(homeTeamId), new Team(awayTeamId), ScoreRules.of(FOOTBALL), 0L);
 	}
 }
@@ -1,17 +1,18 @@
 package com.scoreboard;
 
-import static java.lang.Thread.sleep;
-import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
+import static com.scoreboard.Sports.FOOTBALL;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
-import java.util.Map;
-import java.util.concurrent.Semaphore;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,52 +20,225 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import com.scoreboard.store.FootballGame;
 import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+import com.scoreboard.store.ScoreRules;
+import com.scoreboard.store.SportGame;
 import com.scoreboard.store.Team;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GameQueriesTest {
-	@Mock
-	private Map<String, TwoTeamsGame> currentGames;
-	
 	@Mock
 	private GameCreator gameFactory;
 	
-	@Mock
-	private Semaphore lock;
-	
 	@InjectMocks
-	private GameQueries gameQueries = new InMemoryTwoTeamsGameStore(gameFactory);
+	private InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(gameFactory);
+	
+	@Test
+	public void checkGetGameSummariesWhenMoreThanOneExistsReturnsThemInlastUpdatedOrder() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		
+		assertThat(store.getGameSummaries(), contains(toString("c", 0, "d", 0), toString("a", 0, "b", 0)));
+	}
 	
 	@Test
-	public void checkGetGameSummariesWhenMoreThanOneExistsReturnsThemInlastUpdatedOrder() throws InterruptedException {
-		when(currentGames.values()).thenReturn(asList(aDelayedCreatedFootBallGame("a", "b"), aDelayedCreatedFootBallGame("c", "d")));
+	public void checkGetGameSummariesAfterAScoreUpdateReturnsTheUpdatedGameFirst() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		givenAFootBallGame("e", "f");
 		
-		assertThat(gameQueries.getGameSummaries(), contains(toString("c", 0, "d", 0), toString("a", 0, "b", 0)));
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.createGame("e", "f", FOOTBALL);
+		store.updateGameScore("c", 1, "d", 0);
 		
-		verify(currentGames).values();
-		verify(lock).acquire();
-		verify(lock).release();
-		verifyNoMoreInteractions(lock, gameFactory, currentGames);
+		assertThat(store.getGameSummaries(), contains(toString("c", 1, "d", 0), toString("e", 0, "f", 0), toString("a", 0, "b", 0)));
 	}
 	
 	@Test
-	public void checkGetGameSummariesWhenThereAreNoExistingGamesReturnsEmptySummaryList() throws InterruptedException {
-		when(currentGames.values()).thenReturn(emptyList());
+	public void checkGetGameSummariesAfterARejectedScoreUpdateKeepsTheOrder() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
 		
-		assertThat(gameQueries.getGameSummaries(), empty());
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		try {
+			store.updateGameScore("a", 2, "b", 0);
+		} catch (RuntimeException e) {
+			// two goals at once are rejected
+		}
 		
-		verify(currentGames).values();
-		verify(lock).acquire();
-		verify(lock).release();
-		verifyNoMoreInteractions(lock, gameFactory, currentGames);
+		assertThat(store.getGameSummaries(), contains(toString("c", 0, "d", 0), toString("a", 0, "b", 0)));
 	}
 	
-	private FootballGame aDelayedCreatedFootBallGame(String homeTeamId, String awayTeamId) throws InterruptedException {
-		sleep(1000);
+	@Test
+	public void checkGetGameSummariesAfterAFinishedGameDoesNotReturnIt() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.finishGame("c", "d");
+		
+		assertThat(store.getGameSummaries(), contains(toString("a", 0, "b", 0)));
+	}
+	
+	@Test
+	public void checkGetGameSummariesWhenThereAreNoExistingGamesReturnsEmptySummaryList() {
+		assertThat(store.getGameSummaries(), empty());
+	}
+	
+	@Test
+	public void checkGetGameSummaryViewsReturnsTypedSummariesInlastUpdatedOrder() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
 		
-		return new FootballGame(new Team(homeTeamId), new Team(awayTeamId));
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.updateGameScore("a", 0, "b", 1);
+		
+		assertThat(store.getGameSummaryViews(), contains(
+				new GameSummary("a", 0, "b", 1, FOOTBALL, 3L, toString("a", 0, "b", 1)),
+				new GameSummary("c", 0, "d", 0, FOOTBALL, 2L, toString("c", 0, "d", 0))));
+	}
+	
+	@Test
+	public void checkGetSnapshotWithNoWritesInBetweenReturnsTheSameSnapshot() {
+		givenAFootBallGame("a", "b");
+		
+		store.createGame("a", "b", FOOTBALL);
+		ScoreboardSnapshot snapshot = store.getSnapshot();
+		
+		assertThat(store.getSnapshot(), is(sameInstance(snapshot)));
+		assertThat(store.getGameSummaries(), is(sameInstance(snapshot.getGameSummaries())));
+	}
+	
+	@Test
+	public void checkGetSnapshotAfterAWritePublishesANewerVersion() {
+		givenAFootBallGame("a", "b");
+		
+		store.createGame("a", "b", FOOTBALL);
+		ScoreboardSnapshot snapshot = store.getSnapshot();
+		store.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(store.getSnapshot().getVersion(), is(greaterThan(snapshot.getVersion())));
+		assertThat(store.getSnapshot().getGameSummaries(), contains(toString("a", 1, "b", 0)));
+		assertThat(snapshot.getGameSummaries(), contains(toString("a", 0, "b", 0)));
+	}
+	
+	@Test
+	public void checkGetSnapshotAfterARejectedScoreUpdateReturnsTheSameSnapshot() {
+		givenAFootBallGame("a", "b");
+		
+		store.createGame("a", "b", FOOTBALL);
+		ScoreboardSnapshot snapshot = store.getSnapshot();
+		try {
+			store.updateGameScore("a", 2, "b", 0);
+		} catch (RuntimeException e) {
+			// two goals at once are rejected
+		}
+		
+		assertThat(store.getSnapshot(), is(sameInstance(snapshot)));
+	}
+	
+	@Test
+	public void checkGetTopGamesReturnsTheMostRecentlyUpdatedGames() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		givenAFootBallGame("e", "f");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.createGame("e", "f", FOOTBALL);
+		store.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(gameInfoOf(store.getTopGames(2)), contains(toString("a", 1, "b", 0), toString("e", 0, "f", 0)));
+	}
+	
+	@Test
+	public void checkGetTopGamesWithoutACurrentSnapshotReadsTheIndex() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.getSnapshot();
+		store.createGame("c", "d", FOOTBALL);
+		
+		assertThat(gameInfoOf(store.getTopGames(1)), contains(toString("c", 0, "d", 0)));
+		assertThat(gameInfoOf(store.getTopGames(5)), contains(toString("c", 0, "d", 0), toString("a", 0, "b", 0)));
+	}
+	
+	@Test
+	public void checkGetGamesBeforePagesThroughTheWholeBoard() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		givenAFootBallGame("e", "f");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.createGame("e", "f", FOOTBALL);
+		
+		GamePage first = store.getGamesBefore(GamePage.FIRST_PAGE, 2);
+		GamePage second = store.getGamesBefore(first.getNextCursor(), 2);
+		
+		assertThat(gameInfoOf(first.getGames()), contains(toString("e", 0, "f", 0), toString("c", 0, "d", 0)));
+		assertThat(first.hasMore(), is(true));
+		assertThat(gameInfoOf(second.getGames()), contains(toString("a", 0, "b", 0)));
+		assertThat(second.hasMore(), is(false));
+	}
+	
+	@Test
+	public void checkAPageHoldingTheLastGamesHasNoMore() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		
+		GamePage page = store.getGamesBefore(GamePage.FIRST_PAGE, 2);
+		
+		assertThat(gameInfoOf(page.getGames()), contains(toString("c", 0, "d", 0), toString("a", 0, "b", 0)));
+		assertThat(page.hasMore(), is(false));
+		assertThat(page.getNextCursor(), is(GamePage.NO_MORE_PAGES));
+	}
+	
+	@Test
+	public void checkGetGamesBeforeAfterAnUpdateDoesNotRepeatTheUpdatedGame() {
+		givenAFootBallGame("a", "b");
+		givenAFootBallGame("c", "d");
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		GamePage first = store.getGamesBefore(GamePage.FIRST_PAGE, 1);
+		store.updateGameScore("c", 1, "d", 0);
+		
+		assertThat(gameInfoOf(store.getGamesBefore(first.getNextCursor(), 1).getGames()), contains(toString("a", 0, "b", 0)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkGetGamesBeforeWithoutALimitIsRejected() {
+		store.getGamesBefore(GamePage.FIRST_PAGE, 0);
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void checkGetGameSummariesReturnsAnUnmodifiableList() {
+		store.getGameSummaries().add("a");
+	}
+	
+	private void givenAFootBallGame(String homeTeamId, String awayTeamId) {
+		when(gameFactory.createGame(eq(new Team(homeTeamId)), eq(new Team(awayTeamId)), eq(FOOTBALL), anyLong()))
+			.thenAnswer(invocation -> new SportGame(invocation.getArgument(0), invocation.getArgument(1), ScoreRules.of(FOOTBALL), invocation.getArgument(3)));
+	}
+	
+	private static List<String> gameInfoOf(List<GameSummary> games) {
+		List<String> gameInfo = new ArrayList<>();
+		for (GameSummary game : games) {
+			gameInfo.add(game.getGameInfo());
+		}
+		return gameInfo;
 	}
 	
 	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
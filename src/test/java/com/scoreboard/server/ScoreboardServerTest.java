@@ -0,0 +1,123 @@
+package com.scoreboard.server;
+
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+
+@RunWith(JUnit4.class)
+public class ScoreboardServerTest {
+	private final InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+	
+	private final ScoreboardServer server = ScoreboardServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), store);
+	
+	@After
+	public void tearDown() {
+		server.close();
+	}
+	
+	@Test
+	public void checkPipelinedRequestsAreAnsweredInOrder() throws IOException {
+		try (Client client = new Client()) {
+			client.send("CREATE\tSpain U21\tFrance\tFOOTBALL", "CREATE\tItaly\tFrance\tFOOTBALL", "UPDATE\tSpain U21\t1\tFrance\t0", "PING",
+					"FINISH\tItaly\tFrance");
+			
+			assertThat(client.receive(5), contains("OK CREATED", "ERR TEAM_ALREADY_PLAYING", "OK UPDATED", "PONG", "ERR NON_EXISTENT_GAME"));
+		}
+	}
+	
+	@Test
+	public void checkQueriesSeeTheWritesPipelinedBeforeThem() throws IOException {
+		try (Client client = new Client()) {
+			client.send("CREATE\ta\tb\tFOOTBALL", "CREATE\tc\td\tFOOTBALL", "UPDATE\ta\t1\tb\t0", "TOP\t1", "TEAM\td", "SUMMARY");
+			
+			assertThat(client.receive(10), contains("OK CREATED", "OK CREATED", "OK UPDATED",
+					"GAMES 1", "a\t1\tb\t0\t3",
+					"GAMES 1", "c\t0\td\t0\t2",
+					"GAMES 2", "a\t1\tb\t0\t3", "c\t0\td\t0\t2"));
+		}
+	}
+	
+	@Test
+	public void checkMalformedAndUnknownRequestsAreRejected() throws IOException {
+		try (Client client = new Client()) {
+			client.send("UPDATE\ta\tone\tb\t0", "CREATE\ta\tb", "CREATE\ta\tb\tCURLING", "TOP\t0", "SCORES");
+			
+			assertThat(client.receive(5), contains("ERR BAD_REQUEST", "ERR BAD_REQUEST", "ERR BAD_REQUEST", "ERR BAD_REQUEST", "ERR UNKNOWN_COMMAND"));
+		}
+	}
+	
+	@Test
+	public void checkALineLongerThanTheLimitClosesTheConnection() throws IOException {
+		try (Client client = new Client()) {
+			client.send("PING", "x".repeat(ScoreboardServer.MAX_LINE_BYTES + 1));
+			
+			assertThat(client.receive(2), contains("PONG", "ERR LINE_TOO_LONG"));
+			assertThat(client.in.readLine(), is((String) null));
+		}
+	}
+	
+	@Test
+	public void checkConnectionsShareTheStore() throws IOException {
+		try (Client first = new Client(); Client second = new Client()) {
+			first.send("CREATE\ta\tb\tFOOTBALL");
+			assertThat(first.receive(1), contains("OK CREATED"));
+			
+			second.send("CREATE\tb\tc\tFOOTBALL", "TEAM\ta");
+			assertThat(second.receive(3), contains("ERR TEAM_ALREADY_PLAYING", "GAMES 1", "a\t0\tb\t0\t1"));
+		}
+	}
+	
+	private final class Client implements AutoCloseable {
+		private final Socket socket;
+		private final OutputStream out;
+		private final BufferedReader in;
+		
+		private Client() throws IOException {
+			socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+			socket.setSoTimeout(5_000);
+			out = socket.getOutputStream();
+			in = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+		}
+		
+		private void send(String... lines) throws IOException {
+			StringBuilder requests = new StringBuilder();
+			for (String line : lines) {
+				requests.append(line).append('\n');
+			}
+			out.write(requests.toString().getBytes(UTF_8));
+			out.flush();
+		}
+		
+		private List<String> receive(int lines) throws IOException {
+			List<String> received = new ArrayList<>();
+			for (int line = 0; line < lines; line++) {
+				received.add(in.readLine());
+			}
+			return received;
+		}
+
+		@Override
+		public void close() throws IOException {
+			socket.close();
+		}
+	}
+}
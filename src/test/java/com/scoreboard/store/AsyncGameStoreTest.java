@@ -0,0 +1,203 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.Backpressure.BLOCK;
+import static com.scoreboard.Backpressure.FAIL;
+import static com.scoreboard.ResultCode.CREATED;
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.ResultCode.NON_EXISTENT_GAME;
+import static com.scoreboard.ResultCode.TEAM_ALREADY_PLAYING;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GameCommand;
+import com.scoreboard.GameManagement;
+import com.scoreboard.ResultCode;
+import com.scoreboard.Sports;
+
+@RunWith(JUnit4.class)
+public class AsyncGameStoreTest {
+	private final InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+	
+	@Test
+	public void checkCommandsAreAppliedInSubmissionOrder() throws Exception {
+		try (AsyncGameStore asyncStore = new AsyncGameStore(store, 16, BLOCK)) {
+			CompletableFuture<ResultCode> created = asyncStore.createGame("a", "b", FOOTBALL);
+			CompletableFuture<ResultCode> rejected = asyncStore.createGame("c", "a", FOOTBALL);
+			CompletableFuture<ResultCode> updated = asyncStore.updateGameScore("a", 1, "b", 0);
+			CompletableFuture<ResultCode> finished = asyncStore.finishGame("a", "b");
+			CompletableFuture<ResultCode> missing = asyncStore.finishGame("a", "b");
+			
+			assertThat(created.get(5, SECONDS), is(CREATED));
+			assertThat(rejected.get(5, SECONDS), is(TEAM_ALREADY_PLAYING));
+			assertThat(updated.get(5, SECONDS), is(UPDATED));
+			assertThat(finished.get(5, SECONDS), is(FINISHED));
+			assertThat(missing.get(5, SECONDS), is(NON_EXISTENT_GAME));
+		}
+	}
+	
+	@Test
+	public void checkAFullQueueFailsTheCommandWhenTheBackpressureIsFail() throws Exception {
+		BlockingStore blockingStore = new BlockingStore();
+		
+		try (AsyncGameStore asyncStore = new AsyncGameStore(blockingStore, 2, FAIL)) {
+			List<CompletableFuture<ResultCode>> results = new ArrayList<>();
+			
+			try {
+				results.add(asyncStore.createGame("a", "b", FOOTBALL));
+				blockingStore.applying.await(5, SECONDS);
+				results.add(asyncStore.createGame("c", "d", FOOTBALL));
+				results.add(asyncStore.createGame("e", "f", FOOTBALL));
+				
+				assertRejected(asyncStore.createGame("g", "h", FOOTBALL));
+				assertThat(asyncStore.getRejectedCommands(), is(1L));
+			} finally {
+				blockingStore.release.countDown();
+			}
+			
+			for (CompletableFuture<ResultCode> result : results) {
+				assertThat(result.get(5, SECONDS), is(CREATED));
+			}
+		}
+	}
+	
+	@Test
+	public void checkAFullQueueParksTheCallerUntilThereIsRoomWhenTheBackpressureIsBlock() throws Exception {
+		BlockingStore blockingStore = new BlockingStore();
+		
+		try (AsyncGameStore asyncStore = new AsyncGameStore(blockingStore, 2, BLOCK)) {
+			CompletableFuture<CompletableFuture<ResultCode>> blocked;
+			
+			try {
+				asyncStore.createGame("a", "b", FOOTBALL);
+				blockingStore.applying.await(5, SECONDS);
+				asyncStore.createGame("c", "d", FOOTBALL);
+				asyncStore.createGame("e", "f", FOOTBALL);
+				
+				blocked = CompletableFuture.supplyAsync(() -> asyncStore.createGame("g", "h", FOOTBALL));
+				Thread.sleep(50);
+				assertThat(blocked.isDone(), is(false));
+			} finally {
+				blockingStore.release.countDown();
+			}
+			
+			assertThat(blocked.get(5, SECONDS).get(5, SECONDS), is(CREATED));
+			assertThat(asyncStore.getRejectedCommands(), is(0L));
+		}
+	}
+	
+	@Test
+	public void checkCommandsSubmittedAfterCloseAreRejected() throws Exception {
+		AsyncGameStore asyncStore = new AsyncGameStore(store, 16, BLOCK);
+		CompletableFuture<ResultCode> created = asyncStore.createGame("a", "b", FOOTBALL);
+		
+		asyncStore.close();
+		
+		assertThat(created.get(5, SECONDS), is(CREATED));
+		assertRejected(asyncStore.createGame("c", "d", FOOTBALL));
+	}
+	
+	@Test
+	public void checkConcurrentProducersHaveAllTheirCommandsApplied() throws Exception {
+		List<CompletableFuture<ResultCode>> results = Collections.synchronizedList(new ArrayList<>());
+		
+		try (AsyncGameStore asyncStore = new AsyncGameStore(store, 64, BLOCK)) {
+			List<Thread> producers = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				String homeTeamId = "home" + thread;
+				String awayTeamId = "away" + thread;
+				
+				producers.add(new Thread(() -> {
+					results.add(asyncStore.createGame(homeTeamId, awayTeamId, FOOTBALL));
+					for (int goal = 1; goal <= 1_000; goal++) {
+						results.add(asyncStore.updateGameScore(homeTeamId, goal, awayTeamId, 0));
+					}
+				}));
+			}
+			
+			for (Thread producer : producers) {
+				producer.start();
+			}
+			for (Thread producer : producers) {
+				producer.join();
+			}
+			for (CompletableFuture<ResultCode> result : results) {
+				assertThat(result.get(5, SECONDS).isSuccess(), is(true));
+			}
+		}
+		
+		assertThat(results, hasSize(4 * 1_001));
+		assertThat(store.getGameSummaries(), everyItem(containsString("homeTeamScore=1000,")));
+	}
+	
+	private static void assertRejected(CompletableFuture<ResultCode> result) throws InterruptedException {
+		try {
+			result.get();
+			fail("The command should have been rejected");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), is(instanceOf(RejectedExecutionException.class)));
+		}
+	}
+	
+	// Holds the applier inside the first batch so the queue can be filled
+	private static final class BlockingStore implements GameManagement {
+		private final CountDownLatch applying = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		
+		@Override
+		public List<ResultCode> applyBatch(List<GameCommand> commands) {
+			applying.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			
+			List<ResultCode> results = new ArrayList<>();
+			for (int command = 0; command < commands.size(); command++) {
+				results.add(CREATED);
+			}
+			return results;
+		}
+		
+		@Override
+		public void createGame(String homeTeamId, String awayTeamId, Sports sport) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void updateGameScore(String homeTeamId, Integer newHomeScore, String awayTeamId, Integer newAwayScore) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public ResultCode tryUpdateGameScore(String homeTeamId, int newHomeScore, String awayTeamId, int newAwayScore) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public void finishGame(String homeTeamId, String awayTeamId) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
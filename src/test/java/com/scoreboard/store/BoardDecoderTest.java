@@ -0,0 +1,127 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.ScoreboardSnapshot;
+
+@RunWith(JUnit4.class)
+public class BoardDecoderTest {
+	private final InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+	
+	private final BoardDecoder decoder = new BoardDecoder();
+	
+	@Test
+	public void checkADecodedBoardMatchesTheSnapshot() {
+		store.createGame("España", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.updateGameScore("España", 1, "b", 0);
+		
+		ScoreboardSnapshot decoded = decoder.decode(store.getEncodedBoard());
+		
+		assertThat(decoded.getVersion(), is(store.getSnapshot().getVersion()));
+		assertThat(decoded.getGames(), is(store.getSnapshot().getGames()));
+	}
+	
+	@Test
+	public void checkTheEncodedBoardIsOnlyEncodedOncePerVersion() {
+		store.createGame("a", "b", FOOTBALL);
+		
+		ByteBuffer first = store.getEncodedBoard();
+		ByteBuffer second = store.getEncodedBoard();
+		first.get();
+		
+		assertThat(second.position(), is(0));
+		assertThat(first.isReadOnly(), is(true));
+		assertThat(second.duplicate().position(0), is(first.duplicate().position(0)));
+		
+		store.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(store.getEncodedBoard(), is(not(second)));
+	}
+	
+	@Test
+	public void checkANameLongerThanASignedShortIsDecoded() {
+		String longName = "a".repeat(40_000);
+		store.createGame(longName, "b", FOOTBALL);
+		
+		ScoreboardSnapshot decoded = decoder.decode(store.getEncodedBoard());
+		
+		assertThat(decoded.getGames().get(0).getHomeTeamId(), is(longName));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkANameLongerThanTheLengthFieldCannotBeEncoded() {
+		store.createGame("a".repeat(BoardEncoder.MAX_TEAM_NAME_LENGTH + 1), "b", FOOTBALL);
+		
+		store.getEncodedBoard();
+	}
+	
+	@Test
+	public void checkEncodeBoardWritesIntoADirectBufferOfTheCaller() {
+		store.createGame("a", "b", FOOTBALL);
+		ByteBuffer target = ByteBuffer.allocateDirect(1024);
+		target.put((byte) 7);
+		
+		int written = store.encodeBoard(target);
+		
+		assertThat(target.position(), is(1 + written));
+		target.flip().get();
+		assertThat(decoder.decode(target).getGameSummaries(), is(store.getGameSummaries()));
+	}
+	
+	@Test
+	public void checkADeltaTurnsThePreviousBoardIntoTheCurrentOne() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.createGame("e", "f", FOOTBALL);
+		ScoreboardSnapshot previous = decoder.decode(store.getEncodedBoard());
+		
+		store.updateGameScore("a", 1, "b", 0);
+		store.finishGame("c", "d");
+		store.createGame("g", "h", FOOTBALL);
+		ScoreboardSnapshot current = decoder.applyDelta(previous, store.getEncodedDelta(previous));
+		
+		assertThat(current.getVersion(), is(store.getSnapshot().getVersion()));
+		assertThat(current.getGames(), is(store.getSnapshot().getGames()));
+		assertThat(current.getGameSummaries(), contains(store.getGameSummaries().toArray()));
+	}
+	
+	@Test
+	public void checkADeltaOnlyCarriesTheChangedGames() {
+		for (int game = 0; game < 100; game++) {
+			store.createGame("home" + game, "away" + game, FOOTBALL);
+		}
+		ScoreboardSnapshot previous = store.getSnapshot();
+		store.updateGameScore("home7", 1, "away7", 0);
+		
+		ByteBuffer delta = store.getEncodedDelta(previous);
+		
+		assertThat(delta.remaining() < store.getEncodedBoard().remaining() / 50, is(true));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkADeltaForAnotherVersionIsRejected() {
+		store.createGame("a", "b", FOOTBALL);
+		ScoreboardSnapshot previous = store.getSnapshot();
+		store.updateGameScore("a", 1, "b", 0);
+		ByteBuffer delta = store.getEncodedDelta(previous);
+		
+		decoder.applyDelta(ScoreboardSnapshot.EMPTY, delta);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkAnythingButABoardIsRejected() {
+		decoder.decode(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5 }));
+	}
+}
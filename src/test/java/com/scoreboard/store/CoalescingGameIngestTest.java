@@ -0,0 +1,197 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCommand.finish;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NON_EXISTENT_GAME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.BASKETBALL;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.ScoreboardSnapshot;
+import com.scoreboard.store.archive.GameArchive;
+
+@RunWith(JUnit4.class)
+public class CoalescingGameIngestTest {
+	private final GameArchive archive = GameArchive.evictingOldest(100 * GameArchive.BYTES_PER_GAME);
+	
+	private final InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, archive);
+	
+	private final CoalescingGameIngest ingest = new CoalescingGameIngest(store, 1, HOURS);
+	
+	@After
+	public void tearDown() {
+		ingest.close();
+	}
+	
+	@Test
+	public void checkUpdatesRepeatingTheLatestScoreAreDropped() {
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.createGame("c", "d", FOOTBALL);
+		ScoreboardSnapshot snapshot = store.getSnapshot();
+		
+		ingest.updateGameScore("a", 0, "b", 0);
+		ingest.updateGameScore("a", 0, "b", 0);
+		ingest.flush();
+		
+		assertThat(store.getSnapshot(), is(sameInstance(snapshot)));
+		assertThat(ingest.getReceivedUpdates(), is(2L));
+		assertThat(ingest.getDroppedUpdates(), is(2L));
+		assertThat(ingest.getAppliedUpdates(), is(0L));
+	}
+	
+	@Test
+	public void checkAGoalAndItsCancellationWithinTheWindowNeverReachTheStore() {
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.createGame("c", "d", FOOTBALL);
+		ScoreboardSnapshot snapshot = store.getSnapshot();
+		
+		ingest.updateGameScore("a", 1, "b", 0);
+		ingest.updateGameScore("a", 0, "b", 0);
+		ingest.flush();
+		
+		assertThat(store.getSnapshot(), is(sameInstance(snapshot)));
+		assertThat(ingest.getAppliedUpdates(), is(0L));
+	}
+	
+	@Test
+	public void checkABurstIsAppliedAsItsNetValidTransitions() {
+		ingest.createGame("a", "b", FOOTBALL);
+		
+		ingest.updateGameScore("a", 1, "b", 0);
+		ingest.updateGameScore("a", 1, "b", 1);
+		ingest.updateGameScore("a", 1, "b", 1);
+		ingest.updateGameScore("a", 2, "b", 1);
+		ingest.updateGameScore("a", 2, "b", 0);
+		ingest.updateGameScore("a", 2, "b", 1);
+		ingest.flush();
+		
+		assertThat(store.getGameOf("a").get().getHomeTeamScore(), is(2));
+		assertThat(store.getGameOf("a").get().getAwayTeamScore(), is(1));
+		assertThat(ingest.getAppliedUpdates(), is(3L));
+	}
+	
+	@Test
+	public void checkANetChangeTheSportAllowsIsAppliedInOneUpdatePerTeam() {
+		ingest.createGame("a", "b", BASKETBALL);
+		
+		ingest.updateGameScore("a", 3, "b", 0);
+		ingest.updateGameScore("a", 3, "b", 2);
+		ingest.flush();
+		
+		assertThat(store.getGameOf("a").get().getHomeTeamScore(), is(3));
+		assertThat(store.getGameOf("a").get().getAwayTeamScore(), is(2));
+		assertThat(ingest.getAppliedUpdates(), is(2L));
+	}
+	
+	@Test
+	public void checkALargerNetChangeIsSplitIntoTheLargestAllowedChanges() {
+		ingest.createGame("a", "b", BASKETBALL);
+		
+		ingest.updateGameScore("a", 3, "b", 0);
+		ingest.updateGameScore("a", 6, "b", 0);
+		ingest.updateGameScore("a", 8, "b", 0);
+		ingest.flush();
+		
+		assertThat(store.getGameOf("a").get().getHomeTeamScore(), is(8));
+		assertThat(ingest.getAppliedUpdates(), is(3L));
+	}
+	
+	@Test
+	public void checkInvalidUpdatesAreRejectedStraightAway() {
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(ingest.tryUpdateGameScore("a", 2, "b", 1), is(BOTH_TEAMS_SCORED));
+		assertThat(ingest.tryUpdateGameScore("a", 3, "b", 0), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(ingest.tryUpdateGameScore("c", 1, "d", 0), is(NON_EXISTENT_GAME));
+		assertThat(ingest.tryUpdateGameScore("a", 1, "b", 1), is(UPDATED));
+	}
+	
+	@Test(expected = RuntimeException.class)
+	public void checkUpdateGameScoreOfAnInvalidScoreThrows() {
+		ingest.createGame("a", "b", FOOTBALL);
+		
+		ingest.updateGameScore("a", 2, "b", 0);
+	}
+	
+	@Test
+	public void checkFinishGameAppliesThePendingUpdatesFirst() {
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.updateGameScore("a", 1, "b", 0);
+		
+		ingest.finishGame("a", "b");
+		
+		assertThat(archive.getGamesOf("a").get(0).getHomeTeamScore(), is(1));
+	}
+	
+	@Test
+	public void checkApplyBatchAppliesThePendingUpdatesOfItsGamesFirst() {
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.updateGameScore("a", 0, "b", 1);
+		
+		assertThat(ingest.applyBatch(singletonList(finish("a", "b"))), contains(FINISHED));
+		assertThat(archive.getGamesOf("b").get(0).getAwayTeamScore(), is(1));
+	}
+	
+	@Test
+	public void checkPendingUpdatesAreAppliedWhenTheWindowEnds() throws InterruptedException {
+		try (CoalescingGameIngest shortWindow = new CoalescingGameIngest(store, 10, MILLISECONDS)) {
+			shortWindow.createGame("a", "b", FOOTBALL);
+			shortWindow.updateGameScore("a", 1, "b", 0);
+			
+			for (int attempt = 0; attempt < 200 && store.getGameOf("a").get().getHomeTeamScore() == 0; attempt++) {
+				Thread.sleep(10);
+			}
+			
+			assertThat(store.getGameOf("a").get().getHomeTeamScore(), is(1));
+		}
+	}
+	
+	@Test
+	public void checkANetChangeTheStoreRejectsIsCountedAndHandedToTheListener() {
+		List<String> rejections = new ArrayList<>();
+		
+		try (CoalescingGameIngest listened = new CoalescingGameIngest(store, 1, HOURS, (homeTeamId, newHomeScore, awayTeamId, newAwayScore, result) ->
+				rejections.add(homeTeamId + " " + newHomeScore + "-" + newAwayScore + " " + awayTeamId + " " + result))) {
+			listened.createGame("a", "b", FOOTBALL);
+			listened.updateGameScore("a", 1, "b", 0);
+			store.finishGame("a", "b");
+			listened.flush();
+			
+			assertThat(listened.getRejectedUpdates(), is(1L));
+			assertThat(rejections, contains("a 1-0 b " + NON_EXISTENT_GAME));
+		}
+	}
+	
+	@Test
+	public void checkAGameFinishedBehindTheIngestIsReadAgain() {
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.updateGameScore("a", 1, "b", 0);
+		store.finishGame("a", "b");
+		ingest.flush();
+		
+		ingest.createGame("a", "b", FOOTBALL);
+		ingest.updateGameScore("a", 0, "b", 1);
+		ingest.flush();
+		
+		assertThat(store.getGameOf("a").get().getAwayTeamScore(), is(1));
+	}
+}
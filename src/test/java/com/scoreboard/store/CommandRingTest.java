@@ -0,0 +1,53 @@
+package com.scoreboard.store;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class CommandRingTest {
+	@Test
+	public void checkTheCapacityIsRoundedUpToAPowerOfTwoOfAtLeastTwo() {
+		assertThat(new CommandRing<String>(1).capacity(), is(2));
+		assertThat(new CommandRing<String>(5).capacity(), is(8));
+		assertThat(new CommandRing<String>(8).capacity(), is(8));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkARingWithoutCapacityCannotBeCreated() {
+		new CommandRing<String>(0);
+	}
+	
+	@Test
+	public void checkOfferFailsWhenTheRingIsFull() {
+		CommandRing<String> ring = new CommandRing<>(2);
+		
+		assertThat(ring.offer("a"), is(true));
+		assertThat(ring.offer("b"), is(true));
+		assertThat(ring.offer("c"), is(false));
+		assertThat(ring.size(), is(2));
+	}
+	
+	@Test
+	public void checkDrainKeepsTheOfferOrderAcrossLaps() {
+		CommandRing<String> ring = new CommandRing<>(2);
+		List<String> drained = new ArrayList<>();
+		
+		for (int lap = 0; lap < 3; lap++) {
+			ring.offer("first" + lap);
+			ring.offer("second" + lap);
+			ring.drainTo(drained, 1);
+			ring.drainTo(drained, 10);
+		}
+		
+		assertThat(drained, contains("first0", "second0", "first1", "second1", "first2", "second2"));
+		assertThat(ring.isEmpty(), is(true));
+	}
+}
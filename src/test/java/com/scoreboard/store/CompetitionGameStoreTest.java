@@ -0,0 +1,181 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCommand.create;
+import static com.scoreboard.GameCommand.finish;
+import static com.scoreboard.ResultCode.CREATED;
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.ResultCode.MEMORY_BUDGET_EXCEEDED;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.BASKETBALL;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static com.scoreboard.store.CompetitionGameStore.BYTES_PER_GAME;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GamePage;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.ScoreboardSnapshot;
+import com.scoreboard.store.CompetitionGameStore.Competition;
+
+@RunWith(JUnit4.class)
+public class CompetitionGameStoreTest {
+	private CompetitionGameStore store = new CompetitionGameStore(GAME_FACTORY, 2, 10 * BYTES_PER_GAME);
+	
+	@After
+	public void tearDown() {
+		store.close();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkAStoreWithoutWorkersCannotBeCreated() {
+		new CompetitionGameStore(GAME_FACTORY, 0, BYTES_PER_GAME);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkAStoreWithABudgetForNoGamesCannotBeCreated() {
+		new CompetitionGameStore(GAME_FACTORY, 1, BYTES_PER_GAME - 1);
+	}
+	
+	@Test
+	public void checkCompetitionsAreIsolated() {
+		Competition league = store.competition("league");
+		Competition cup = store.competition("cup");
+		
+		league.createGame("a", "b", FOOTBALL);
+		cup.createGame("a", "c", FOOTBALL);
+		league.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(store.competition("league"), is(sameInstance(league)));
+		assertThat(league.getGameSummaries(), contains(toString("a", 1, "b", 0)));
+		assertThat(cup.getGameSummaries(), contains(toString("a", 0, "c", 0)));
+		assertThat(cup.tryUpdateGameScore("a", 1, "b", 0), is(ResultCode.NON_EXISTENT_GAME));
+		assertThat(store.getCompetitionIds(), contains("league", "cup"));
+	}
+	
+	@Test
+	public void checkTheBoardOfAllCompetitionsIsMergedByLastUpdate() {
+		Competition league = store.competition("league");
+		Competition youth = store.competition("youth");
+		
+		league.createGame("a", "b", FOOTBALL);
+		youth.createGame("c", "d", BASKETBALL);
+		league.createGame("e", "f", FOOTBALL);
+		youth.updateGameScore("c", 3, "d", 0);
+		
+		assertThat(store.getGameSummaries(), contains(toString("c", 3, "d", 0), toString("e", 0, "f", 0), toString("a", 0, "b", 0)));
+		assertThat(store.getSnapshot(), is(sameInstance(store.getSnapshot())));
+		assertThat(store.getGameOf("c").get().getHomeTeamScore(), is(3));
+		assertThat(store.getGamesOf(BASKETBALL), hasSize(1));
+		assertThat(store.getGamesWithTotalScoreAtLeast(1), hasSize(1));
+		
+		GamePage first = store.getGamesBefore(GamePage.FIRST_PAGE, 2);
+		assertThat(store.getGamesBefore(first.getNextCursor(), 2).getGames().get(0).getHomeTeamId(), is("a"));
+	}
+	
+	@Test
+	public void checkTheMergedBoardIsRebuiltOnlyWhenACompetitionChanges() {
+		Competition league = store.competition("league");
+		league.createGame("a", "b", FOOTBALL);
+		ScoreboardSnapshot before = store.getSnapshot();
+		
+		store.competition("cup").createGame("c", "d", FOOTBALL);
+		
+		assertThat(store.getSnapshot().getVersion() > before.getVersion(), is(true));
+		assertThat(store.getSnapshot().getGames(), hasSize(2));
+	}
+	
+	@Test
+	public void checkGamesBeyondTheMemoryBudgetAreRejectedInEveryCompetition() {
+		for (int game = 0; game < 10; game++) {
+			store.competition("league" + game % 3).createGame("home" + game, "away" + game, FOOTBALL);
+		}
+		
+		assertThat(store.getReservedBytes(), is(10L * BYTES_PER_GAME));
+		assertThat(store.competition("cup").applyBatch(asList(create("x", "y", FOOTBALL), finish("home0", "away0"))),
+				contains(MEMORY_BUDGET_EXCEEDED, ResultCode.NON_EXISTENT_GAME));
+		
+		store.competition("league0").finishGame("home0", "away0");
+		
+		assertThat(store.getReservedBytes(), is(9L * BYTES_PER_GAME));
+		assertThat(store.competition("cup").applyBatch(asList(create("x", "y", FOOTBALL))), contains(CREATED));
+	}
+	
+	@Test(expected = RuntimeException.class)
+	public void checkCreateGameBeyondTheMemoryBudgetThrows() {
+		CompetitionGameStore small = new CompetitionGameStore(GAME_FACTORY, 1, BYTES_PER_GAME);
+		try {
+			small.competition("league").createGame("a", "b", FOOTBALL);
+			small.competition("cup").createGame("c", "d", FOOTBALL);
+		} finally {
+			small.close();
+		}
+	}
+	
+	@Test
+	public void checkRejectedCreatesGiveTheirBudgetBack() {
+		Competition league = store.competition("league");
+		
+		league.createGame("a", "b", FOOTBALL);
+		league.createGame("a", "c", FOOTBALL);
+		
+		assertThat(store.getReservedBytes(), is((long) BYTES_PER_GAME));
+		assertThat(league.applyBatch(asList(create("c", "d", FOOTBALL), finish("a", "b"))), contains(CREATED, FINISHED));
+		assertThat(store.getReservedBytes(), is((long) BYTES_PER_GAME));
+	}
+	
+	@Test
+	public void checkConcurrentWritersOfManyCompetitionsShareTheWorkers() throws Exception {
+		CompetitionGameStore large = new CompetitionGameStore(GAME_FACTORY, 2, 1000 * BYTES_PER_GAME);
+		ExecutorService writers = Executors.newFixedThreadPool(8);
+		
+		try {
+			List<Future<?>> done = new ArrayList<>();
+			for (int writer = 0; writer < 8; writer++) {
+				Competition competition = large.competition("competition" + writer % 4);
+				String home = "home" + writer;
+				String away = "away" + writer;
+				
+				done.add(writers.submit(() -> {
+					competition.createGame(home, away, FOOTBALL);
+					for (int goal = 1; goal <= 50; goal++) {
+						assertThat(competition.tryUpdateGameScore(home, goal, away, 0), is(UPDATED));
+					}
+				}));
+			}
+			for (Future<?> writer : done) {
+				writer.get(10, SECONDS);
+			}
+			
+			List<GameSummary> games = large.getGameSummaryViews();
+			assertThat(games, hasSize(8));
+			for (GameSummary game : games) {
+				assertThat(game.getHomeTeamScore(), is(50));
+			}
+		} finally {
+			writers.shutdownNow();
+			large.close();
+		}
+	}
+	
+	private static String toString(String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore) {
+		return GameFormat.toString(new Team(homeTeamId), homeTeamScore, new Team(awayTeamId), awayTeamScore);
+	}
+}
@@ -1,7 +1,17 @@
 package com.scoreboard.store;
 
+import static com.scoreboard.ResultCode.BOTH_TEAMS_CANCELLED;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NEGATIVE_SCORE;
+import static com.scoreboard.ResultCode.SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -12,6 +22,8 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import com.scoreboard.GameSummary;
+
 @RunWith(JUnit4.class) 
 public class FootballGameTest {
 	@Rule
@@ -154,6 +166,102 @@ public class FootballGameTest {
 		assertThat(game, hasProperty("gameInfo", is(toString("a", 1, "b", 1))));
 	}
 	
+	@Test
+	public void checkUpdateScoresWithASequenceStampsTheGameWithIt() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		game.updateScores(1, 0, 7L);
+		
+		assertThat(game, hasProperty("sequence", is(7L)));
+	}
+	
+	@Test
+	public void checkUpdateScoresWithoutASequenceStampsTheNextGameSequence() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		game.updateScores(1, 0);
+		
+		assertThat(game, hasProperty("sequence", is(4L)));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenRejectedKeepsTheGameSequence() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		try {
+			game.updateScores(2, 0, 7L);
+		} catch (RuntimeException e) {
+			// two goals at once are rejected
+		}
+		
+		assertThat(game, hasProperty("sequence", is(3L)));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresWhenHomeTeamScoresANewGoalReturnsUpdatedAndUpdatesTheScore() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		assertThat(game.tryUpdateScores(1, 0, 7L), is(UPDATED));
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 1, "b", 0))));
+		assertThat(game, hasProperty("sequence", is(7L)));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresWithInvalidScoresReturnsTheRejectionAndDoesNotUpdateTheScore() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		assertThat(game.tryUpdateScores(-1, 0, 4L), is(NEGATIVE_SCORE));
+		assertThat(game.tryUpdateScores(2, 0, 5L), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(game.tryUpdateScores(0, 2, 6L), is(INVALID_AWAY_TEAM_SCORE));
+		assertThat(game.tryUpdateScores(1, 1, 7L), is(BOTH_TEAMS_SCORED));
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+		assertThat(game, hasProperty("sequence", is(3L)));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresCancellingAndScoringAtTheSameTimeReturnsTheRejection() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"));
+		
+		game.updateScores(1, 0);
+		
+		assertThat(game.tryUpdateScores(0, 1, 9L), is(SCORE_AND_CANCEL_AT_THE_SAME_TIME));
+		
+		game.updateScores(1, 1);
+		
+		assertThat(game.tryUpdateScores(0, 0, 9L), is(BOTH_TEAMS_CANCELLED));
+	}
+	
+	@Test
+	public void checkGetSummaryReturnsTheTypedScoresAndSequence() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		game.updateScores(0, 1, 4L);
+		
+		assertThat(game.getSummary(), is(new GameSummary("a", 0, "b", 1, FOOTBALL, 4L, toString("a", 0, "b", 1))));
+	}
+	
+	@Test
+	public void checkGetSummaryWithoutUpdatesInBetweenReturnsTheSameRenderedSummary() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		GameSummary summary = game.getSummary();
+		game.tryUpdateScores(2, 0, 4L);
+		
+		assertThat(game.getSummary(), is(sameInstance(summary)));
+		assertThat(game.getGameInfo(), is(sameInstance(summary.getGameInfo())));
+	}
+	
+	@Test
+	public void checkGetSummaryAfterAnUpdateReturnsANewSummary() {
+		FootballGame game = new FootballGame(new Team("a"), new Team("b"), 3L);
+		
+		GameSummary summary = game.getSummary();
+		game.updateScores(1, 0, 4L);
+		
+		assertThat(game.getSummary(), is(not(sameInstance(summary))));
+		assertThat(game.getSummary().getGameInfo(), is(toString("a", 1, "b", 0)));
+	}
+	
 	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
 		StringBuilder game = new StringBuilder();
 		
@@ -0,0 +1,87 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.TwoTeamsGame;
+
+@RunWith(JUnit4.class)
+public class GameTableTest {
+	private GameTable table = new GameTable();
+	
+	@Test
+	public void checkKeyOfPacksBothTeamIds() {
+		long gameKey = GameTable.keyOf(7, Integer.MAX_VALUE);
+		
+		assertThat(GameTable.homeTeamOf(gameKey), is(7));
+		assertThat(GameTable.awayTeamOf(gameKey), is(Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void checkHomeAndAwayTeamsAreDifferentKeys() {
+		TwoTeamsGame game = aGame();
+		
+		table.put(GameTable.keyOf(1, 2), game);
+		
+		assertThat(table.get(GameTable.keyOf(1, 2)), is(sameInstance(game)));
+		assertThat(table.get(GameTable.keyOf(2, 1)), is(nullValue()));
+	}
+	
+	@Test
+	public void checkGamesAreFoundAfterTheTableGrows() {
+		List<TwoTeamsGame> games = new ArrayList<>();
+		
+		for (int team = 0; team < 10_000; team++) {
+			games.add(aGame());
+			table.put(GameTable.keyOf(team, team + 1), games.get(team));
+		}
+		
+		assertThat(table.size(), is(10_000));
+		for (int team = 0; team < 10_000; team++) {
+			assertThat(table.get(GameTable.keyOf(team, team + 1)), is(sameInstance(games.get(team))));
+		}
+	}
+	
+	@Test
+	public void checkRemovedGamesAreNotFoundAndCanBeAddedAgain() {
+		TwoTeamsGame game = aGame();
+		
+		for (int round = 0; round < 1_000; round++) {
+			table.put(GameTable.keyOf(round, 1), game);
+			assertThat(table.remove(GameTable.keyOf(round, 1)), is(sameInstance(game)));
+		}
+		table.put(GameTable.keyOf(3, 1), game);
+		
+		assertThat(table.size(), is(1));
+		assertThat(table.get(GameTable.keyOf(2, 1)), is(nullValue()));
+		assertThat(table.get(GameTable.keyOf(3, 1)), is(sameInstance(game)));
+		assertThat(table.remove(GameTable.keyOf(2, 1)), is(nullValue()));
+	}
+	
+	@Test
+	public void checkForEachOnlyVisitsTheLiveGames() {
+		table.put(GameTable.keyOf(1, 2), aGame());
+		table.put(GameTable.keyOf(3, 4), aGame());
+		table.remove(GameTable.keyOf(1, 2));
+		
+		List<Long> keys = new ArrayList<>();
+		table.forEach((gameKey, game) -> keys.add(gameKey));
+		
+		assertThat(keys.size(), is(1));
+		assertThat(keys.get(0), is(GameTable.keyOf(3, 4)));
+	}
+	
+	private TwoTeamsGame aGame() {
+		return new SportGame(new Team("home"), new Team("away"), ScoreRules.of(FOOTBALL), 0L);
+	}
+}
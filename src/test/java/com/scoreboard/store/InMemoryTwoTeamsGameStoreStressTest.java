@@ -0,0 +1,123 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GameSummary;
+
+@RunWith(JUnit4.class)
+public class InMemoryTwoTeamsGameStoreStressTest {
+	// Throughput per thread count is measured by StoreBenchmark.updateGameScore through the BenchmarkRunner, this only checks correctness
+	private static final int THREADS = 4;
+	private static final int GAMES_PER_THREAD = 50;
+	private static final int UPDATES_PER_THREAD = 10_000;
+	
+	@Test
+	public void checkConcurrentUpdatesOnDifferentGamesAreAllApplied() throws Exception {
+		InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		
+		for (int thread = 0; thread < THREADS; thread++) {
+			for (int game = 0; game < GAMES_PER_THREAD; game++) {
+				store.createGame(home(thread, game), away(thread, game), FOOTBALL);
+			}
+		}
+		
+		runConcurrently(THREADS, thread -> {
+			for (int update = 0; update < UPDATES_PER_THREAD; update++) {
+				store.updateGameScore(home(thread, update % GAMES_PER_THREAD), homeScoreOf(update), away(thread, update % GAMES_PER_THREAD), 0);
+			}
+		});
+		
+		List<GameSummary> games = store.getGameSummaryViews();
+		assertThat(games, hasSize(THREADS * GAMES_PER_THREAD));
+		for (GameSummary game : games) {
+			assertThat(game.getHomeTeamScore(), is(homeScoreOf(UPDATES_PER_THREAD - 1)));
+		}
+	}
+	
+	@Test
+	public void checkConcurrentCreatesSharingATeamOnlyCreateOneGame() throws Exception {
+		InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		
+		runConcurrently(8, thread -> store.createGame("shared", "rival" + thread, FOOTBALL));
+		
+		assertThat(store.getGameSummaries(), hasSize(1));
+	}
+	
+	@Test
+	public void checkConcurrentCreatesAndFinishesNeverLeaveATeamPlayingTwice() throws Exception {
+		InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+		
+		runConcurrently(4, thread -> {
+			for (int round = 0; round < 2_000; round++) {
+				store.createGame("shared", "rival" + thread, FOOTBALL);
+				try {
+					store.finishGame("shared", "rival" + thread);
+				} catch (RuntimeException e) {
+					// another thread owns the shared team right now
+				}
+			}
+		});
+		
+		assertThat(store.getGameSummaries().size(), is(lessThanOrEqualTo(1)));
+	}
+	
+	// Every game of a thread toggles between 0-0 and 1-0, its last update decides its final score
+	private static int homeScoreOf(int update) {
+		return (update / GAMES_PER_THREAD) % 2 == 0 ? 1 : 0;
+	}
+	
+	private void runConcurrently(int threads, ThreadTask task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Void>> results = new ArrayList<>();
+		
+		try {
+			for (int thread = 0; thread < threads; thread++) {
+				int threadNumber = thread;
+				Callable<Void> work = () -> {
+					start.await();
+					task.run(threadNumber);
+					return null;
+				};
+				results.add(executor.submit(work));
+			}
+			
+			start.countDown();
+			for (Future<Void> result : results) {
+				result.get(60, SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	private static String home(int thread, int game) {
+		return "home" + thread + "." + game;
+	}
+	
+	private static String away(int thread, int game) {
+		return "away" + thread + "." + game;
+	}
+	
+	private interface ThreadTask {
+		void run(int thread);
+	}
+}
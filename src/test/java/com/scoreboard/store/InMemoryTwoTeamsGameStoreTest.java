@@ -0,0 +1,415 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCommand.create;
+import static com.scoreboard.GameCommand.finish;
+import static com.scoreboard.GameCommand.update;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.CREATED;
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.ResultCode.INVALID_GAME;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NON_EXISTENT_GAME;
+import static com.scoreboard.ResultCode.TEAM_ALREADY_PLAYING;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static com.scoreboard.TwoTeamGameSportsFactory.PACKED_GAME_FACTORY;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GameChange;
+import com.scoreboard.GameChangeListener;
+import com.scoreboard.GameCreator;
+import com.scoreboard.GameSummary;
+import com.scoreboard.ResultCode;
+import com.scoreboard.ScoreboardSnapshot;
+import com.scoreboard.Sports;
+import com.scoreboard.Subscription;
+import com.scoreboard.TwoTeamsGame;
+import com.scoreboard.store.metrics.MetricsSnapshot;
+import com.scoreboard.store.metrics.StoreMetrics;
+import com.scoreboard.store.metrics.StoreMetrics.Operation;
+
+@RunWith(JUnit4.class)
+public class InMemoryTwoTeamsGameStoreTest {
+	@Rule
+	public ExpectedException expectedEx = none();
+	
+	private InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY);
+	
+	@Test
+	public void checkCreateGameWithATeamNameContainedInAPlayingTeamNameCreatesANewGame() {
+		store.createGame("Spain U21", "France U21", FOOTBALL);
+		store.createGame("Spain", "France", FOOTBALL);
+		
+		assertThat(store.getGameSummaries(), containsInAnyOrder(toString("Spain U21", 0, "France U21", 0), toString("Spain", 0, "France", 0)));
+	}
+	
+	@Test
+	public void checkCreateGameWithTeamNamesContainingTheSeparatorKeepsGamesApart() {
+		store.createGame("a-b", "c", FOOTBALL);
+		store.createGame("a", "b-c", FOOTBALL);
+		
+		store.updateGameScore("a", 1, "b-c", 0);
+		
+		assertThat(store.getGameSummaries(), containsInAnyOrder(toString("a-b", 0, "c", 0), toString("a", 1, "b-c", 0)));
+	}
+	
+	@Test
+	public void checkCreateGameWhenTheAwayTeamIsAlreadyPlayingAtHomeDoesNotCreateANewGame() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "a", FOOTBALL);
+		
+		assertThat(store.getGameSummaries(), contains(toString("a", 0, "b", 0)));
+	}
+	
+	@Test
+	public void checkFinishGameReleasesBothTeamsForANewGame() {
+		store.createGame("a", "b", FOOTBALL);
+		store.finishGame("a", "b");
+		store.createGame("b", "a", FOOTBALL);
+		
+		assertThat(store.getGameSummaries(), contains(toString("b", 0, "a", 0)));
+	}
+	
+	@Test
+	public void checkFinishGameWithSwappedTeamsReturnsAnExceptionAndKeepsTheGame() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("The game with id: b-a does not exist");
+		
+		store.createGame("a", "b", FOOTBALL);
+		
+		store.finishGame("b", "a");
+	}
+	
+	@Test
+	public void checkApplyBatchReturnsAResultPerCommandWithoutThrowing() {
+		store.createGame("a", "b", FOOTBALL);
+		
+		List<ResultCode> results = store.applyBatch(asList(
+				create("c", "d", FOOTBALL),
+				create("a", "e", FOOTBALL),
+				create("f", "f", FOOTBALL),
+				update("c", 1, "d", 0),
+				update("c", 3, "d", 0),
+				update("x", 1, "y", 0),
+				finish("a", "b"),
+				finish("a", "b")));
+		
+		assertThat(results, contains(CREATED, TEAM_ALREADY_PLAYING, INVALID_GAME, UPDATED, INVALID_HOME_TEAM_SCORE, NON_EXISTENT_GAME, FINISHED, NON_EXISTENT_GAME));
+		assertThat(store.getGameSummaries(), contains(toString("c", 1, "d", 0)));
+	}
+	
+	@Test
+	public void checkApplyBatchPublishesASingleSnapshotVersion() {
+		ScoreboardSnapshot before = store.getSnapshot();
+		
+		store.applyBatch(asList(create("a", "b", FOOTBALL), create("c", "d", FOOTBALL), update("a", 1, "b", 0)));
+		
+		assertThat(store.getSnapshot().getVersion(), is(before.getVersion() + 1));
+		assertThat(store.getGameSummaries(), contains(toString("a", 1, "b", 0), toString("c", 0, "d", 0)));
+	}
+	
+	@Test
+	public void checkApplyBatchWithOnlyRejectedCommandsKeepsTheSnapshot() {
+		store.createGame("a", "b", FOOTBALL);
+		ScoreboardSnapshot before = store.getSnapshot();
+		
+		store.applyBatch(asList(update("a", 2, "b", 0), finish("x", "y")));
+		
+		assertThat(store.getSnapshot(), is(sameInstance(before)));
+	}
+	
+	@Test
+	public void checkSubscribersReceiveCreatedScoreChangedAndFinishedChangesWithTheirSequence() {
+		List<String> changes = new ArrayList<>();
+		store.subscribe(change -> changes.add(change.getType() + " " + change.getSequence() + " " + change.getGame().getHomeTeamScore()), 16, Runnable::run);
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.updateGameScore("a", 1, "b", 0);
+		store.tryUpdateGameScore("a", 5, "b", 0);
+		store.finishGame("a", "b");
+		
+		assertThat(changes, contains("CREATED 1 0", "SCORE_CHANGED 2 1", "FINISHED 4 1"));
+	}
+	
+	@Test
+	public void checkASlowSubscriberDropsTheChangesBeyondItsBufferAndIsToldAboutThem() {
+		List<Runnable> pending = new ArrayList<>();
+		List<GameChange> changes = new ArrayList<>();
+		List<Long> overflows = new ArrayList<>();
+		
+		Subscription subscription = store.subscribe(new GameChangeListener() {
+			@Override
+			public void onChange(GameChange change) {
+				changes.add(change);
+			}
+			
+			@Override
+			public void onOverflow(long droppedChanges) {
+				overflows.add(droppedChanges);
+			}
+		}, 2, pending::add);
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.createGame("e", "f", FOOTBALL);
+		store.createGame("g", "h", FOOTBALL);
+		pending.remove(0).run();
+		
+		assertThat(changes.size(), is(2));
+		assertThat(overflows, contains(2L));
+		assertThat(subscription.getDroppedChanges(), is(2L));
+	}
+	
+	@Test
+	public void checkClosedSubscriptionsStopReceivingChanges() {
+		List<GameChange> changes = new ArrayList<>();
+		Subscription subscription = store.subscribe(changes::add, 16, Runnable::run);
+		
+		store.createGame("a", "b", FOOTBALL);
+		subscription.close();
+		store.finishGame("a", "b");
+		
+		assertThat(changes.size(), is(1));
+	}
+	
+	@Test
+	public void checkAFailingSubscriberIsClosedAndToldWhy() {
+		List<GameChange> changes = new ArrayList<>();
+		List<RuntimeException> failures = new ArrayList<>();
+		
+		store.subscribe(new GameChangeListener() {
+			@Override
+			public void onChange(GameChange change) {
+				changes.add(change);
+				throw new IllegalStateException("listener failed");
+			}
+			
+			@Override
+			public void onError(RuntimeException failure) {
+				failures.add(failure);
+			}
+		}, 16, Runnable::run);
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.finishGame("a", "b");
+		
+		assertThat(changes.size(), is(1));
+		assertThat(failures.size(), is(1));
+		assertThat(failures.get(0).getMessage(), is("listener failed"));
+	}
+	
+	@Test
+	public void checkRecordingMetricsCountResultsLatenciesAndLiveGames() {
+		InMemoryTwoTeamsGameStore measured = new InMemoryTwoTeamsGameStore(GAME_FACTORY, StoreMetrics.recording());
+		
+		measured.createGame("a", "b", FOOTBALL);
+		measured.createGame("c", "d", FOOTBALL);
+		measured.createGame("a", "e", FOOTBALL);
+		measured.tryUpdateGameScore("a", 1, "b", 0);
+		measured.tryUpdateGameScore("c", 2, "d", 0);
+		measured.finishGame("c", "d");
+		MetricsSnapshot metrics = measured.getMetrics();
+		
+		assertThat(metrics.getLiveGames(), is(1));
+		assertThat(metrics.getCount(CREATED), is(2L));
+		assertThat(metrics.getCount(TEAM_ALREADY_PLAYING), is(1L));
+		assertThat(metrics.getCount(INVALID_HOME_TEAM_SCORE), is(1L));
+		assertThat(metrics.getLatency(Operation.UPDATE).getCount(), is(2L));
+		assertThat(metrics.getFailures(Operation.UPDATE), is(1L));
+		assertThat(metrics.getLockWait().getCount(), is(4L));
+		assertThat(metrics.getLockHold().getCount(), is(4L));
+	}
+	
+	@Test
+	public void checkRecordingMetricsCountTheRejectionsOfTheThrowingUpdate() {
+		InMemoryTwoTeamsGameStore measured = new InMemoryTwoTeamsGameStore(GAME_FACTORY, StoreMetrics.recording());
+		measured.createGame("a", "b", FOOTBALL);
+		
+		try {
+			measured.updateGameScore("a", 1, "b", 1);
+		} catch (RuntimeException e) {
+			// counted below
+		}
+		MetricsSnapshot metrics = measured.getMetrics();
+		
+		assertThat(metrics.getCount(BOTH_TEAMS_SCORED), is(1L));
+		assertThat(metrics.getFailures(Operation.UPDATE), is(1L));
+		assertThat(measured.getGameOf("a").get().getHomeTeamScore(), is(0));
+	}
+	
+	@Test
+	public void checkDisabledMetricsOnlyReportTheLiveGames() {
+		store.createGame("a", "b", FOOTBALL);
+		MetricsSnapshot metrics = store.getMetrics();
+		
+		assertThat(metrics.getLiveGames(), is(1));
+		assertThat(metrics.getCount(CREATED), is(0L));
+		assertThat(metrics.getLatency(Operation.CREATE).getCount(), is(0L));
+	}
+	
+	@Test
+	public void checkStoreWithPackedGamesKeepsTheSameRulesAndOrdering() {
+		InMemoryTwoTeamsGameStore packed = new InMemoryTwoTeamsGameStore(PACKED_GAME_FACTORY);
+		
+		packed.createGame("a", "b", FOOTBALL);
+		packed.createGame("c", "d", FOOTBALL);
+		packed.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(packed.tryUpdateGameScore("c", 2, "d", 0), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(packed.getGameSummaries(), contains(toString("a", 1, "b", 0), toString("c", 0, "d", 0)));
+	}
+	
+	@Test
+	public void checkGetGameOfFindsTheGameOfAHomeOrAwayTeam() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.updateGameScore("c", 0, "d", 1);
+		
+		assertThat(store.getGameOf("a").get().getGameInfo(), is(toString("a", 0, "b", 0)));
+		assertThat(store.getGameOf("d").get().getGameInfo(), is(toString("c", 0, "d", 1)));
+		assertThat(store.getGameOf("e").isPresent(), is(false));
+	}
+	
+	@Test
+	public void checkGetGameOfAfterTheGameIsFinishedFindsNothing() {
+		store.createGame("a", "b", FOOTBALL);
+		store.finishGame("a", "b");
+		
+		assertThat(store.getGameOf("a").isPresent(), is(false));
+		assertThat(store.getGameOf("b").isPresent(), is(false));
+	}
+	
+	@Test
+	public void checkGetGamesOfASportReturnsItsLiveGamesByLastUpdate() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.createGame("e", "f", FOOTBALL);
+		store.finishGame("c", "d");
+		
+		assertThat(gameInfoOf(store.getGamesOf(FOOTBALL)), contains(toString("e", 0, "f", 0), toString("a", 0, "b", 0)));
+	}
+	
+	@Test
+	public void checkGetGamesWithTotalScoreAtLeastFollowsTheScoreUpdates() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		store.updateGameScore("a", 1, "b", 0);
+		store.updateGameScore("a", 1, "b", 1);
+		store.updateGameScore("c", 1, "d", 0);
+		
+		assertThat(gameInfoOf(store.getGamesWithTotalScoreAtLeast(2)), contains(toString("a", 1, "b", 1)));
+		assertThat(gameInfoOf(store.getGamesWithTotalScoreAtLeast(1)), contains(toString("c", 1, "d", 0), toString("a", 1, "b", 1)));
+		
+		store.updateGameScore("a", 1, "b", 0);
+		
+		assertThat(store.getGamesWithTotalScoreAtLeast(2), is(empty()));
+	}
+	
+	@Test
+	public void checkGetGamesWithTotalScoreAtLeastAboveTheLastBucketChecksTheScores() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		for (int goal = 1; goal <= GameIndexes.TOTAL_SCORE_BUCKETS; goal++) {
+			store.updateGameScore("a", goal, "b", 0);
+			if (goal < GameIndexes.TOTAL_SCORE_BUCKETS) {
+				store.updateGameScore("c", goal, "d", 0);
+			}
+		}
+		
+		assertThat(gameInfoOf(store.getGamesWithTotalScoreAtLeast(GameIndexes.TOTAL_SCORE_BUCKETS)), contains(toString("a", GameIndexes.TOTAL_SCORE_BUCKETS, "b", 0)));
+		assertThat(store.getGamesWithTotalScoreAtLeast(GameIndexes.TOTAL_SCORE_BUCKETS - 1), hasSize(2));
+	}
+	
+	private static List<String> gameInfoOf(List<GameSummary> games) {
+		List<String> gameInfo = new ArrayList<>();
+		for (GameSummary game : games) {
+			gameInfo.add(game.getGameInfo());
+		}
+		return gameInfo;
+	}
+	
+	@Test
+	public void checkAnInterruptedWriterKeepsTheStoreLockExclusive() throws Exception {
+		CountDownLatch creating = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		InMemoryTwoTeamsGameStore blocking = new InMemoryTwoTeamsGameStore(new GameCreator() {
+			@Override
+			public TwoTeamsGame createGame(Team homeTeam, Team awayTeam, Sports sport, long sequence) {
+				creating.countDown();
+				awaitUninterruptibly(release);
+				return GAME_FACTORY.createGame(homeTeam, awayTeam, sport, sequence);
+			}
+		});
+		ExecutorService writers = Executors.newFixedThreadPool(2);
+		
+		try {
+			Thread.currentThread().interrupt();
+			try {
+				blocking.createGame("a", "b", FOOTBALL);
+			} catch (RuntimeException e) {
+				assertThat(Thread.interrupted(), is(true));
+			}
+			
+			Future<?> holder = writers.submit(() -> blocking.createGame("c", "d", FOOTBALL));
+			creating.await(5, SECONDS);
+			Future<List<ResultCode>> waiting = writers.submit(() -> blocking.applyBatch(asList(create("e", "f", FOOTBALL))));
+			
+			Thread.sleep(100);
+			assertThat(waiting.isDone(), is(false));
+			
+			release.countDown();
+			holder.get(5, SECONDS);
+			assertThat(waiting.get(5, SECONDS), contains(CREATED));
+		} finally {
+			release.countDown();
+			writers.shutdownNow();
+		}
+	}
+	
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+		StringBuilder game = new StringBuilder();
+		
+		game.append("Game [homeTeam=");
+		game.append("Team [teamName=" + homeTeam + "]");
+		game.append(", homeTeamScore=");
+		game.append(homeTeamScore);
+		game.append(", awayTeam=");
+		game.append("Team [teamName=" + awayTeam + "]");
+		game.append(", awayTeamScore=");
+		game.append(awayTeamScore);
+		game.append("]");
+		
+		return game.toString();
+	}
+}
@@ -0,0 +1,149 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NEGATIVE_SCORE;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GameSummary;
+
+@RunWith(JUnit4.class)
+public class PackedFootballGameTest {
+	@Rule
+	public ExpectedException expectedEx = none();
+	
+	@Test
+	public void checkCreateANewGameWithTwoValidTeamsCreatesANewGameWithInitialScoresSetToZero() {
+		assertThat(new PackedFootballGame(new Team("a"), new Team("b")), 
+				  hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkCreateANewGameWithTwoEqualTeamsReturnsAnException() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Can't create a football game with both same contenders");
+		
+		new PackedFootballGame(new Team("a"), new Team("a"));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresAppliesTheSameRulesAsFootballGame() {
+		PackedFootballGame game = new PackedFootballGame(new Team("a"), new Team("b"), 1L);
+		
+		assertThat(game.tryUpdateScores(1, 0, 2L), is(UPDATED));
+		assertThat(game.tryUpdateScores(3, 0, 3L), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(game.tryUpdateScores(2, 1, 4L), is(BOTH_TEAMS_SCORED));
+		assertThat(game.tryUpdateScores(-1, 0, 5L), is(NEGATIVE_SCORE));
+		
+		assertThat(game.getSummary(), is(new GameSummary("a", 1, "b", 0, FOOTBALL, 2L, toString("a", 1, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenRejectedReturnsTheFootballGameMessage() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Only one team score can be updated at the same time");
+		
+		PackedFootballGame game = new PackedFootballGame(new Team("a"), new Team("b"));
+		
+		game.updateScores(1, 0);
+		game.updateScores(0, 1);
+	}
+	
+	@Test
+	public void checkRestoredGameKeepsItsScoresAndSequence() {
+		PackedFootballGame game = new PackedFootballGame(new Team("a"), 4000, new Team("b"), 3, 1L << 39);
+		
+		assertThat(game.getSequence(), is(1L << 39));
+		assertThat(game.getGameInfo(), is(toString("a", 4000, "b", 3)));
+	}
+	
+	@Test
+	public void checkScoresBeyondThePackedRangeAreRejected() {
+		PackedFootballGame game = new PackedFootballGame(new Team("a"), 4095, new Team("b"), 0, 1L);
+		
+		assertThat(game.tryUpdateScores(4096, 0, 2L), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(game.getGameInfo(), is(toString("a", 4095, "b", 0)));
+	}
+	
+	@Test
+	public void checkGetSummaryWithoutUpdatesInBetweenReturnsTheSameRenderedSummary() {
+		PackedFootballGame game = new PackedFootballGame(new Team("a"), new Team("b"), 3L);
+		
+		GameSummary summary = game.getSummary();
+		game.tryUpdateScores(2, 0, 4L);
+		
+		assertThat(game.getSummary(), is(sameInstance(summary)));
+	}
+	
+	@Test
+	public void checkConcurrentGoalsAreNeverLostOrTorn() throws InterruptedException, ExecutionException {
+		PackedFootballGame game = new PackedFootballGame(new Team("a"), new Team("b"));
+		AtomicLong sequence = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		// A thread that read a score another one already raised sends an unchanged score, which is accepted, so the goals are
+		// checked through the scores each thread sees: they never go back and always match the game info read with them
+		List<Future<Integer>> goals = new ArrayList<>();
+		for (int thread = 0; thread < 4; thread++) {
+			goals.add(executor.submit(() -> {
+				int seen = 0;
+				while (seen < 2000) {
+					GameSummary current = game.getSummary();
+					
+					assertThat(current.getHomeTeamScore(), is(greaterThanOrEqualTo(seen)));
+					assertThat(current.getGameInfo(), is(toString("a", current.getHomeTeamScore(), "b", 0)));
+					seen = current.getHomeTeamScore();
+					
+					if (seen < 2000) {
+						game.tryUpdateScores(seen + 1, 0, sequence.incrementAndGet());
+					}
+				}
+				return seen;
+			}));
+		}
+		
+		for (Future<Integer> thread : goals) {
+			assertThat(thread.get(), is(2000));
+		}
+		executor.shutdown();
+		
+		assertThat(game.getSummary().getHomeTeamScore(), is(2000));
+	}
+	
+	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+		StringBuilder game = new StringBuilder();
+		
+		game.append("Game [homeTeam=");
+		game.append("Team [teamName=" + homeTeam + "]");
+		game.append(", homeTeamScore=");
+		game.append(homeTeamScore);
+		game.append(", awayTeam=");
+		game.append("Team [teamName=" + awayTeam + "]");
+		game.append(", awayTeamScore=");
+		game.append(awayTeamScore);
+		game.append("]");
+		
+		return game.toString();
+	}
+}
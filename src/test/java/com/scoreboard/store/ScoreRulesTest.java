@@ -0,0 +1,142 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.ResultCode.BOTH_TEAMS_CANCELLED;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NEGATIVE_SCORE;
+import static com.scoreboard.ResultCode.SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.BASKETBALL;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.ResultCode;
+import com.scoreboard.TwoTeamsGame;
+
+@RunWith(JUnit4.class)
+public class ScoreRulesTest {
+	@Rule
+	public ExpectedException expectedEx = none();
+	
+	@Test
+	public void checkTheFootballTableAgreesWithTheFootballRules() {
+		ScoreRules rules = ScoreRules.of(FOOTBALL);
+		
+		for (int homeTeamScore = 0; homeTeamScore < 4; homeTeamScore++) {
+			for (int awayTeamScore = 0; awayTeamScore < 4; awayTeamScore++) {
+				for (int newHomeTeamScore = -1; newHomeTeamScore < 6; newHomeTeamScore++) {
+					for (int newAwayTeamScore = -1; newAwayTeamScore < 6; newAwayTeamScore++) {
+						assertThat(rules.validate(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore),
+								is(footballResultOf(homeTeamScore, awayTeamScore, newHomeTeamScore, newAwayTeamScore)));
+					}
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void checkBasketballAllowsOneToThreePointsForOneTeamPerUpdate() {
+		ScoreRules rules = ScoreRules.of(BASKETBALL);
+		
+		assertThat(rules.validate(10, 8, 13, 8), is(UPDATED));
+		assertThat(rules.validate(10, 8, 10, 10), is(UPDATED));
+		assertThat(rules.validate(10, 8, 8, 8), is(UPDATED));
+		assertThat(rules.validate(10, 8, 14, 8), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(rules.validate(10, 8, 10, 12), is(INVALID_AWAY_TEAM_SCORE));
+		assertThat(rules.validate(10, 8, 12, 9), is(BOTH_TEAMS_SCORED));
+		assertThat(rules.validate(10, 8, 7, 7), is(BOTH_TEAMS_CANCELLED));
+		assertThat(rules.validate(10, 8, 12, 6), is(SCORE_AND_CANCEL_AT_THE_SAME_TIME));
+		assertThat(rules.validate(2, 0, -1, 0), is(NEGATIVE_SCORE));
+	}
+	
+	@Test
+	public void checkAllowsTellsTheScoreChangesOfOneTeam() {
+		ScoreRules rules = ScoreRules.of(BASKETBALL);
+		
+		assertThat(rules.allows(0), is(true));
+		assertThat(rules.allows(-3), is(true));
+		assertThat(rules.allows(4), is(false));
+		assertThat(ScoreRules.of(FOOTBALL).allows(2), is(false));
+	}
+	
+	@Test
+	public void checkStepTowardTakesTheWholeDifferenceWhenAllowedOrTheLargestAllowedChange() {
+		ScoreRules rules = ScoreRules.of(BASKETBALL);
+		
+		assertThat(rules.stepToward(2), is(2));
+		assertThat(rules.stepToward(-5), is(-3));
+		assertThat(ScoreRules.of(FOOTBALL).stepToward(3), is(1));
+	}
+	
+	@Test
+	public void checkStepTowardLeavesARestTheSportCanReach() {
+		ScoreRules rules = new ScoreRules(BASKETBALL, 2, 3);
+		
+		assertThat(rules.stepToward(4), is(2));
+		assertThat(rules.stepToward(5), is(3));
+		assertThat(rules.stepToward(1), is(0));
+	}
+	
+	@Test
+	public void checkTheGameFactoryCreatesGamesValidatedByTheRulesOfTheirSport() {
+		TwoTeamsGame game = GAME_FACTORY.createGame("a", "b", BASKETBALL);
+		
+		game.updateScores(3, 0);
+		game.updateScores(3, 2);
+		
+		assertThat(game.getSport(), is(BASKETBALL));
+		assertThat(game.getSummary(), hasProperty("homeTeamScore", is(3)));
+		assertThat(game.getSummary(), hasProperty("awayTeamScore", is(2)));
+		assertThat(game.tryUpdateScores(3, 6, 3L), is(INVALID_AWAY_TEAM_SCORE));
+	}
+	
+	@Test
+	public void checkAnInvalidUpdateThrowsTheFootballMessage() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Only one team score can be updated at the same time");
+		
+		TwoTeamsGame game = GAME_FACTORY.restoreGame("a", 1, "b", 0, FOOTBALL, 1L);
+		
+		game.updateScores(0, 1);
+	}
+	
+	@Test
+	public void checkAGameWithBothSameContendersCanNotBeCreated() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Can't create a football game with both same contenders");
+		
+		GAME_FACTORY.createGame("a", "a", FOOTBALL);
+	}
+	
+	// One goal scored or cancelled by one team per update, checked difference by difference as the football game did
+	private static ResultCode footballResultOf(int homeTeamScore, int awayTeamScore, int newHomeTeamScore, int newAwayTeamScore) {
+		int homeTeamDifference = newHomeTeamScore - homeTeamScore;
+		int awayTeamDifference = newAwayTeamScore - awayTeamScore;
+		
+		if (newHomeTeamScore < 0 || newAwayTeamScore < 0) {
+			return NEGATIVE_SCORE;
+		} else if (Math.abs(homeTeamDifference) > 1) {
+			return INVALID_HOME_TEAM_SCORE;
+		} else if (Math.abs(awayTeamDifference) > 1) {
+			return INVALID_AWAY_TEAM_SCORE;
+		} else if (homeTeamDifference == 1 && awayTeamDifference == 1) {
+			return BOTH_TEAMS_SCORED;
+		} else if (homeTeamDifference == -1 && awayTeamDifference == -1) {
+			return BOTH_TEAMS_CANCELLED;
+		} else if (homeTeamDifference != 0 && awayTeamDifference != 0) {
+			return SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+		}
+		return UPDATED;
+	}
+}
@@ -0,0 +1,189 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.GameCommand.create;
+import static com.scoreboard.GameCommand.finish;
+import static com.scoreboard.GameCommand.update;
+import static com.scoreboard.ResultCode.CREATED;
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.ResultCode.TEAM_ALREADY_PLAYING;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static com.scoreboard.TwoTeamGameSportsFactory.PACKED_GAME_FACTORY;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GamePage;
+import com.scoreboard.ScoreboardSnapshot;
+
+@RunWith(JUnit4.class)
+public class ShardedTwoTeamsGameStoreTest {
+	private ShardedTwoTeamsGameStore store = new ShardedTwoTeamsGameStore(GAME_FACTORY, 4);
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkAStoreWithoutShardsCannotBeCreated() {
+		new ShardedTwoTeamsGameStore(GAME_FACTORY, 0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkGamesKeepingAShortSequenceCannotBeSharded() {
+		new ShardedTwoTeamsGameStore(PACKED_GAME_FACTORY, 4);
+	}
+	
+	@Test
+	public void checkGameSummariesAreMergedFromAllShardsByLastUpdate() {
+		for (int game = 0; game < 20; game++) {
+			store.createGame("home" + game, "away" + game, FOOTBALL);
+		}
+		store.updateGameScore("home3", 1, "away3", 0);
+		store.updateGameScore("home11", 0, "away11", 1);
+		
+		List<String> summaries = store.getGameSummaries();
+		
+		assertThat(summaries, hasSize(20));
+		assertThat(summaries.subList(0, 3), contains(toString("home11", 0, "away11", 1), toString("home3", 1, "away3", 0), toString("home19", 0, "away19", 0)));
+		assertThat(summaries.get(19), is(toString("home0", 0, "away0", 0)));
+	}
+	
+	@Test
+	public void checkGetGamesBeforeMergesThePagesOfAllShards() {
+		for (int game = 0; game < 20; game++) {
+			store.createGame("home" + game, "away" + game, FOOTBALL);
+		}
+		
+		GamePage first = store.getGamesBefore(GamePage.FIRST_PAGE, 3);
+		GamePage second = store.getGamesBefore(first.getNextCursor(), 3);
+		
+		assertThat(first.getGames().get(0).getHomeTeamId(), is("home19"));
+		assertThat(first.getGames().get(2).getHomeTeamId(), is("home17"));
+		assertThat(second.getGames().get(0).getHomeTeamId(), is("home16"));
+		assertThat(store.getTopGames(25), hasSize(20));
+	}
+	
+	@Test
+	public void checkTheMergedPageKnowsWhenOneShardHoldsTheLastGames() {
+		store = new ShardedTwoTeamsGameStore(GAME_FACTORY, 1);
+		for (int game = 0; game < 4; game++) {
+			store.createGame("home" + game, "away" + game, FOOTBALL);
+		}
+		
+		assertThat(store.getGamesBefore(GamePage.FIRST_PAGE, 3).hasMore(), is(true));
+		assertThat(store.getGamesBefore(GamePage.FIRST_PAGE, 4).hasMore(), is(false));
+	}
+	
+	@Test
+	public void checkIndexedLookupsFindTheGamesOfEveryShard() {
+		for (int game = 0; game < 20; game++) {
+			store.createGame("home" + game, "away" + game, FOOTBALL);
+		}
+		store.updateGameScore("home7", 1, "away7", 0);
+		
+		assertThat(store.getGameOf("away7").get().getHomeTeamScore(), is(1));
+		assertThat(store.getGameOf("nobody").isPresent(), is(false));
+		assertThat(store.getGamesOf(FOOTBALL), hasSize(20));
+		assertThat(store.getGamesWithTotalScoreAtLeast(1).get(0).getHomeTeamId(), is("home7"));
+	}
+	
+	@Test
+	public void checkCreateGameWhenATeamIsPlayingInAnotherShardDoesNotCreateANewGame() {
+		for (int rival = 0; rival < 8; rival++) {
+			store.createGame("rival" + rival, "a", FOOTBALL);
+		}
+		store.createGame("a", "b", FOOTBALL);
+		
+		assertThat(store.getGameSummaries(), contains(toString("rival0", 0, "a", 0)));
+	}
+	
+	@Test
+	public void checkFinishGameReleasesBothTeamsForAGameInAnotherShard() {
+		store.createGame("a", "b", FOOTBALL);
+		store.finishGame("a", "b");
+		store.createGame("b", "a", FOOTBALL);
+		
+		assertThat(store.getGameSummaries(), contains(toString("b", 0, "a", 0)));
+	}
+	
+	@Test(expected = RuntimeException.class)
+	public void checkFinishGameOfANonExistentGameThrowsTheShardException() {
+		store.finishGame("a", "b");
+	}
+	
+	@Test
+	public void checkApplyBatchKeepsTheCommandOrderAcrossShards() {
+		assertThat(store.applyBatch(asList(create("a", "b", FOOTBALL), create("c", "a", FOOTBALL), update("a", 1, "b", 0), create("c", "d", FOOTBALL),
+				finish("a", "b"), create("e", "a", FOOTBALL))),
+				contains(CREATED, TEAM_ALREADY_PLAYING, UPDATED, CREATED, FINISHED, CREATED));
+		
+		assertThat(store.getGameSummaries(), contains(toString("e", 0, "a", 0), toString("c", 0, "d", 0)));
+	}
+	
+	@Test
+	public void checkGetSnapshotReusesTheMergedSnapshotUntilAShardChanges() {
+		store.createGame("a", "b", FOOTBALL);
+		store.createGame("c", "d", FOOTBALL);
+		
+		ScoreboardSnapshot snapshot = store.getSnapshot();
+		assertThat(store.getSnapshot(), is(sameInstance(snapshot)));
+		
+		store.updateGameScore("a", 1, "b", 0);
+		assertThat(store.getSnapshot().getVersion() > snapshot.getVersion(), is(true));
+	}
+	
+	@Test
+	public void checkConcurrentCreatesSharingATeamOnlyCreateOneGame() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+		
+		try {
+			for (int thread = 0; thread < 8; thread++) {
+				String rival = "rival" + thread;
+				results.add(executor.submit(() -> {
+					start.await();
+					store.createGame("shared", rival, FOOTBALL);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> result : results) {
+				result.get(10, SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		
+		assertThat(store.getGameSummaries(), hasSize(1));
+	}
+	
+	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+		StringBuilder game = new StringBuilder();
+		
+		game.append("Game [homeTeam=");
+		game.append("Team [teamName=" + homeTeam + "]");
+		game.append(", homeTeamScore=");
+		game.append(homeTeamScore);
+		game.append(", awayTeam=");
+		game.append("Team [teamName=" + awayTeam + "]");
+		game.append(", awayTeamScore=");
+		game.append(awayTeamScore);
+		game.append("]");
+		
+		return game.toString();
+	}
+}
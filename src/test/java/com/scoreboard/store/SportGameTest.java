@@ -0,0 +1,303 @@
+package com.scoreboard.store;
+
+import static com.scoreboard.ResultCode.BOTH_TEAMS_CANCELLED;
+import static com.scoreboard.ResultCode.BOTH_TEAMS_SCORED;
+import static com.scoreboard.ResultCode.INVALID_AWAY_TEAM_SCORE;
+import static com.scoreboard.ResultCode.INVALID_HOME_TEAM_SCORE;
+import static com.scoreboard.ResultCode.NEGATIVE_SCORE;
+import static com.scoreboard.ResultCode.SCORE_AND_CANCEL_AT_THE_SAME_TIME;
+import static com.scoreboard.ResultCode.UPDATED;
+import static com.scoreboard.Sports.BASKETBALL;
+import static com.scoreboard.Sports.FOOTBALL;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+import static org.mockito.ArgumentMatchers.isNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GameSummary;
+
+@RunWith(JUnit4.class) 
+public class SportGameTest {
+	private static final ScoreRules FOOTBALL_RULES = ScoreRules.of(FOOTBALL);
+	
+	@Rule
+	public ExpectedException expectedEx = none();
+	
+	@Test
+	public void checkCreateANewGameWithTwoValidTeamsCreatesANewGameWithInitialScoresSetToZero() {
+		assertThat(new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L), 
+				  hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkCreateANewGameWithTwoEqualTeamsDoesNotCreateAGameAndReturnsAnException() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Can't create a football game with both same contenders");
+		
+		assertThat(new SportGame(new Team("a"), new Team("a"), FOOTBALL_RULES, 0L), isNull());
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenHomeTeamScoresANewGoalUpdatesTheScoreOk() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(1, 0);
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 1, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWithSameScoreDoesNotChangeTheScore() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(0, 0);
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenHomeTeamScoresIsNegativeReturnsAnExceptionAndDoesNotUpdateTheScore() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Error scores can't be negative, newHomeTeamScore: -1 newAwayTeamScore: 0");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(-1, 0);
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenHomeTeamHasACancelledGoalFromAPreviousValidGoalUpdatesTheScoreOk() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(1, 0); //goal is valid
+		game.updateScores(0, 0); //cancel the goal
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresPassingAnInvalidPreviousHomeTeamScoreReturnsAnExceptionAndDoesNotUpdateTheScore() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Only one team score can be updated at the same time");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(1, 0); //home team goal is valid
+		game.updateScores(0, 1); //home team score is invalid though away team goal is valid
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 1, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenAwayTeamScoresANewGoalUpdatesTheScoreOk() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(0, 1);
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 1))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenAwayTeamScoresIsNegativeReturnsAnExceptionAndDoesNotUpdateTheScore() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Error scores can't be negative, newHomeTeamScore: 0 newAwayTeamScore: -1");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(0, -1);
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenAwayTeamHasACancelledGoalFromAPreviousValidGoalUpdatesTheScoreOk() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(0, 1); //goal is valid
+		game.updateScores(0, 0); //cancel the goal
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresPassingAnInvalidPreviousAwayTeamScoreReturnsAnExceptionAndDoesNotUpdateTheScore() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Only one team score can be updated at the same time");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(0, 1); //away team goal is valid
+		game.updateScores(1, 0); //away team score is invalid though home team goal is valid
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 1))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWithBothTeamsScoringAtTheSameTimeReturnsAnExceptionAndDoesNotUpdateTheScore() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Invalid score, both teams can't score at the same time");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(1, 1);
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWithBothTeamsHavingACancelledGoalAtTheSameTimeReturnsAnExceptionAndDoesNotUpdateTheScore() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Invalid score, both teams can't have a cancelled goal at the same time");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(1, 0); //goal is valid
+		game.updateScores(1, 1); //goal is valid
+		game.updateScores(0, 0); //cancel both goals at the same time
+		
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 1, "b", 1))));
+	}
+	
+	@Test
+	public void checkUpdateScoresWithAnInvalidBasketballScoreReturnsTheExceptionOfThatTeam() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Invalid new awayTeamScore, from oldScore: 0 to newScore: 4");
+		
+		SportGame game = new SportGame(new Team("a"), new Team("b"), ScoreRules.of(BASKETBALL), 0L);
+		
+		game.updateScores(0, 3);
+		game.updateScores(0, 0);
+		game.updateScores(0, 4);
+	}
+	
+	@Test
+	public void checkCreateABasketballGameWithTwoEqualTeamsNamesTheSport() {
+		expectedEx.expect(RuntimeException.class);
+		expectedEx.expectMessage("Can't create a basketball game with both same contenders");
+		
+		new SportGame(new Team("a"), new Team("a"), ScoreRules.of(BASKETBALL), 0L);
+	}
+	
+	@Test
+	public void checkUpdateScoresWithASequenceStampsTheGameWithIt() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		game.updateScores(1, 0, 7L);
+		
+		assertThat(game, hasProperty("sequence", is(7L)));
+	}
+	
+	@Test
+	public void checkUpdateScoresWithoutASequenceStampsTheNextGameSequence() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		game.updateScores(1, 0);
+		
+		assertThat(game, hasProperty("sequence", is(4L)));
+	}
+	
+	@Test
+	public void checkUpdateScoresWhenRejectedKeepsTheGameSequence() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		try {
+			game.updateScores(2, 0, 7L);
+		} catch (RuntimeException e) {
+			// two goals at once are rejected
+		}
+		
+		assertThat(game, hasProperty("sequence", is(3L)));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresWhenHomeTeamScoresANewGoalReturnsUpdatedAndUpdatesTheScore() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		assertThat(game.tryUpdateScores(1, 0, 7L), is(UPDATED));
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 1, "b", 0))));
+		assertThat(game, hasProperty("sequence", is(7L)));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresWithInvalidScoresReturnsTheRejectionAndDoesNotUpdateTheScore() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		assertThat(game.tryUpdateScores(-1, 0, 4L), is(NEGATIVE_SCORE));
+		assertThat(game.tryUpdateScores(2, 0, 5L), is(INVALID_HOME_TEAM_SCORE));
+		assertThat(game.tryUpdateScores(0, 2, 6L), is(INVALID_AWAY_TEAM_SCORE));
+		assertThat(game.tryUpdateScores(1, 1, 7L), is(BOTH_TEAMS_SCORED));
+		assertThat(game, hasProperty("gameInfo", is(toString("a", 0, "b", 0))));
+		assertThat(game, hasProperty("sequence", is(3L)));
+	}
+	
+	@Test
+	public void checkTryUpdateScoresCancellingAndScoringAtTheSameTimeReturnsTheRejection() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 0L);
+		
+		game.updateScores(1, 0);
+		
+		assertThat(game.tryUpdateScores(0, 1, 9L), is(SCORE_AND_CANCEL_AT_THE_SAME_TIME));
+		
+		game.updateScores(1, 1);
+		
+		assertThat(game.tryUpdateScores(0, 0, 9L), is(BOTH_TEAMS_CANCELLED));
+	}
+	
+	@Test
+	public void checkGetSummaryReturnsTheTypedScoresAndSequence() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		game.updateScores(0, 1, 4L);
+		
+		assertThat(game.getSummary(), is(new GameSummary("a", 0, "b", 1, FOOTBALL, 4L, toString("a", 0, "b", 1))));
+	}
+	
+	@Test
+	public void checkGetSummaryWithoutUpdatesInBetweenReturnsTheSameRenderedSummary() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		GameSummary summary = game.getSummary();
+		game.tryUpdateScores(2, 0, 4L);
+		
+		assertThat(game.getSummary(), is(sameInstance(summary)));
+		assertThat(game.getGameInfo(), is(sameInstance(summary.getGameInfo())));
+	}
+	
+	@Test
+	public void checkGetSummaryAfterAnUpdateReturnsANewSummary() {
+		SportGame game = new SportGame(new Team("a"), new Team("b"), FOOTBALL_RULES, 3L);
+		
+		GameSummary summary = game.getSummary();
+		game.updateScores(1, 0, 4L);
+		
+		assertThat(game.getSummary(), is(not(sameInstance(summary))));
+		assertThat(game.getSummary().getGameInfo(), is(toString("a", 1, "b", 0)));
+	}
+	
+	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+		StringBuilder game = new StringBuilder();
+		
+		game.append("Game [homeTeam=");
+		game.append("Team [teamName=" + homeTeam + "]");
+		game.append(", homeTeamScore=");
+		game.append(homeTeamScore);
+		game.append(", awayTeam=");
+		game.append("Team [teamName=" + awayTeam + "]");
+		game.append(", awayTeamScore=");
+		game.append(awayTeamScore);
+		game.append("]");
+		
+		return game.toString();
+	}
+}
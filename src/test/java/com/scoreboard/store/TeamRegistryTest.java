@@ -0,0 +1,39 @@
+package com.scoreboard.store;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class TeamRegistryTest {
+	private TeamRegistry teams = new TeamRegistry();
+	
+	@Test
+	public void checkIdOfInternsEachTeamOnceWithDenseIds() {
+		for (int team = 0; team < 100; team++) {
+			assertThat(teams.idOf("team" + team), is(team));
+		}
+		
+		assertThat(teams.idOf("team42"), is(42));
+		assertThat(teams.size(), is(100));
+		assertThat(teams.nameOf(42), is("team42"));
+	}
+	
+	@Test
+	public void checkTeamOfReturnsTheSameFlyweight() {
+		int id = teams.idOf("Spain");
+		
+		assertThat(teams.teamOf(id), is(sameInstance(teams.teamOf(teams.idOf("Spain")))));
+		assertThat(teams.teamOf(id), is(new Team("Spain")));
+	}
+	
+	@Test
+	public void checkFindDoesNotInternUnknownTeams() {
+		assertThat(teams.find("Spain"), is(TeamRegistry.UNKNOWN_TEAM));
+		assertThat(teams.size(), is(0));
+	}
+}
@@ -0,0 +1,47 @@
+package com.scoreboard.store;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class WriteSequenceTest {
+	@Test
+	public void checkACountingSequenceCountsFromTheLastReplayedSequence() {
+		WriteSequence sequence = WriteSequence.counting();
+		
+		assertThat(sequence.next(), is(1L));
+		sequence.advanceTo(10);
+		sequence.advanceTo(5);
+		
+		assertThat(sequence.next(), is(11L));
+	}
+	
+	@Test
+	public void checkClockedSequencesKeepTheirShardAndIncreaseAcrossShards() {
+		long origin = System.nanoTime();
+		WriteSequence first = WriteSequence.clocked(origin, 0, 3);
+		WriteSequence second = WriteSequence.clocked(origin, 2, 3);
+		
+		long previous = 0;
+		for (int write = 0; write < 1000; write++) {
+			long next = (write % 2 == 0 ? first : second).next();
+			
+			assertThat(next & 3, is(write % 2 == 0 ? 0L : 2L));
+			assertThat(next, is(greaterThan(previous)));
+			previous = next;
+		}
+	}
+	
+	@Test
+	public void checkAClockedSequenceRunsAheadOfAClockThatDoesNotTick() {
+		WriteSequence sequence = WriteSequence.clocked(System.nanoTime() + 1_000_000_000_000L, 1, 2);
+		
+		assertThat(sequence.next(), is(3L));
+		assertThat(sequence.next(), is(5L));
+	}
+}
@@ -0,0 +1,239 @@
+package com.scoreboard.store.archive;
+
+import static com.scoreboard.ResultCode.FINISHED;
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+import com.scoreboard.store.journal.GameJournal;
+import com.scoreboard.store.metrics.StoreMetrics;
+
+@RunWith(JUnit4.class)
+public class GameArchiveTest {
+	private static final long MATCH_DAY = LocalDate.of(2024, 5, 18).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+	private static final long HOUR = 3_600_000L;
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private GameArchive archive = GameArchive.evictingOldest(1_000L * bytesOfGame(8));
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void checkAMemoryCapBelowOneGameIsRejected() {
+		GameArchive.evictingOldest(GameArchive.BYTES_PER_GAME - 1);
+	}
+	
+	@Test
+	public void checkGetByFinishSequenceFindsTheArchivedGame() {
+		archive.archive(3L, MATCH_DAY, "a", 2, "b", 1, FOOTBALL);
+		archive.archive(7L, MATCH_DAY, "c", 0, "d", 0, FOOTBALL);
+		
+		ArchivedGame game = archive.getByFinishSequence(3L).get();
+		
+		assertThat(game.getHomeTeamId(), is("a"));
+		assertThat(game.getHomeTeamScore(), is(2));
+		assertThat(game.getAwayTeamId(), is("b"));
+		assertThat(game.getAwayTeamScore(), is(1));
+		assertThat(archive.getByFinishSequence(5L).isPresent(), is(false));
+	}
+	
+	@Test
+	public void checkGetGamesOfReturnsTheHomeAndAwayGamesOfATeamLastFinishedFirst() {
+		archive.archive(1L, MATCH_DAY, "a", 1, "b", 0, FOOTBALL);
+		archive.archive(2L, MATCH_DAY, "c", 0, "d", 0, FOOTBALL);
+		archive.archive(3L, MATCH_DAY, "b", 2, "a", 2, FOOTBALL);
+		archive.archive(4L, MATCH_DAY, "a", 0, "c", 3, FOOTBALL);
+		
+		assertThat(finishSequencesOf(archive.getGamesOf("a")), contains(4L, 3L, 1L));
+		assertThat(finishSequencesOf(archive.getGamesOf("b")), contains(3L, 1L));
+		assertThat(archive.getGamesOf("e").isEmpty(), is(true));
+	}
+	
+	@Test
+	public void checkAFullArchiveEvictsTheOldestGames() {
+		GameArchive small = GameArchive.evictingOldest(3L * GameArchive.BYTES_PER_GAME + 4L * bytesOfTeam(5));
+		
+		for (long game = 1; game <= 5; game++) {
+			small.archive(game, MATCH_DAY, "a", 0, "team" + game, 0, FOOTBALL);
+		}
+		
+		assertThat(small.size(), is(3));
+		assertThat(small.getEvictedGames(), is(2L));
+		assertThat(small.getByFinishSequence(2L).isPresent(), is(false));
+		assertThat(small.getByFinishSequence(3L).isPresent(), is(true));
+		assertThat(finishSequencesOf(small.getGamesOf("a")), contains(5L, 4L, 3L));
+	}
+	
+	@Test
+	public void checkTheColumnsGrowUpToTheCap() {
+		for (long game = 1; game <= 5_000; game++) {
+			archive.archive(game, MATCH_DAY, "home" + game, 0, "away" + game, 0, FOOTBALL);
+		}
+		
+		assertThat(archive.size(), is(1_000));
+		assertThat(archive.getByFinishSequence(4_001L).get().getHomeTeamId(), is("home4001"));
+		assertThat(archive.getByFinishSequence(4_000L).isPresent(), is(false));
+	}
+	
+	@Test
+	public void checkTeamNamesAreCountedAgainstTheMemoryCap() {
+		GameArchive small = GameArchive.evictingOldest(1_000L);
+		String name = "a-team-with-a-long-name-".repeat(2);
+		
+		for (long game = 1; game <= 3; game++) {
+			small.archive(game, MATCH_DAY, name + "home" + game, 0, name + "away" + game, 0, FOOTBALL);
+		}
+		
+		assertThat(small.size(), is(1));
+		assertThat(small.getUsedBytes(), is(lessThanOrEqualTo(1_000L)));
+		assertThat(small.getGamesOf(name + "home1").isEmpty(), is(true));
+	}
+	
+	@Test
+	public void checkTheTeamsOfEvictedGamesLeaveTheDictionary() {
+		GameArchive small = GameArchive.evictingOldest(3L * bytesOfGame(6));
+		
+		for (long game = 1; game <= 10_000; game++) {
+			small.archive(game, MATCH_DAY, "h" + game, 0, "a" + game, 0, FOOTBALL);
+		}
+		
+		assertThat(small.size(), is(3));
+		assertThat(small.getUsedBytes(), is(lessThanOrEqualTo(3L * bytesOfGame(6))));
+		assertThat(finishSequencesOf(small.getGamesOf("h10000")), contains(10_000L));
+	}
+	
+	@Test
+	public void checkTheColumnsGrowingAfterTheCapEvictedKeepTheLiveGames() {
+		GameArchive wrapped = GameArchive.evictingOldest(2_000L * GameArchive.BYTES_PER_GAME);
+		
+		for (long game = 1; game <= 1_030; game++) {
+			wrapped.archive(game, MATCH_DAY, "home" + game, 0, "away" + game, 0, FOOTBALL);
+		}
+		for (long game = 1_031; game <= 2_530; game++) {
+			wrapped.archive(game, MATCH_DAY, "x", 0, "y", 0, FOOTBALL);
+		}
+		
+		long oldest = wrapped.getEvictedGames() + 1;
+		for (long game = oldest; game <= 2_530; game++) {
+			assertThat(wrapped.getByFinishSequence(game).get().getFinishSequence(), is(game));
+		}
+		assertThat(wrapped.getGamesOf("x").size(), is(1_500));
+		assertThat(wrapped.getGamesOf("x").get(0).getFinishSequence(), is(2_530L));
+	}
+	
+	@Test
+	public void checkEvictedGamesAreSpilledAndCanBeReadBack() throws IOException {
+		Path spillFile = folder.newFolder().toPath().resolve("archive.spill");
+		
+		try (GameArchive spilling = GameArchive.spillingTo(spillFile, 2L * GameArchive.BYTES_PER_GAME + 4L * bytesOfTeam(1))) {
+			spilling.archive(1L, MATCH_DAY, "a", 1, "b", 0, FOOTBALL);
+			spilling.archive(2L, MATCH_DAY, "c", 0, "d", 2, FOOTBALL);
+			spilling.archive(3L, MATCH_DAY, "e", 0, "f", 0, FOOTBALL);
+			spilling.archive(4L, MATCH_DAY, "g", 0, "h", 0, FOOTBALL);
+			
+			List<ArchivedGame> spilled = new ArrayList<>();
+			spilling.forEachSpilled(spilled::add);
+			
+			assertThat(finishSequencesOf(spilled), contains(1L, 2L));
+			assertThat(spilled.get(1).getAwayTeamId(), is("d"));
+			assertThat(spilled.get(1).getAwayTeamScore(), is(2));
+		}
+	}
+	
+	@Test
+	public void checkExportOfAMatchDayOnlyWritesItsGames() throws IOException {
+		archive.archive(1L, MATCH_DAY - HOUR, "a", 1, "b", 0, FOOTBALL);
+		archive.archive(2L, MATCH_DAY + HOUR, "c", 0, "d", 2, FOOTBALL);
+		archive.archive(3L, MATCH_DAY + 25 * HOUR, "e", 0, "f", 0, FOOTBALL);
+		StringWriter out = new StringWriter();
+		
+		int exported = archive.export(LocalDate.of(2024, 5, 18), ZoneOffset.UTC, out);
+		
+		assertThat(exported, is(1));
+		assertThat(out.toString(), is("finishSequence,finishedMillis,sport,homeTeam,homeTeamScore,awayTeam,awayTeamScore\n"
+				+ "2," + (MATCH_DAY + HOUR) + ",FOOTBALL,c,0,d,2\n"));
+	}
+	
+	@Test
+	public void checkAStoreArchivesTheFinalScoreOfItsFinishedGames() {
+		InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, archive);
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.updateGameScore("a", 1, "b", 0);
+		store.finishGame("a", "b");
+		
+		ArchivedGame game = archive.getGamesOf("b").get(0);
+		assertThat(game.getHomeTeamScore(), is(1));
+		assertThat(game.getFinishSequence(), is(3L));
+		assertThat(store.getGameSummaries().isEmpty(), is(true));
+	}
+	
+	@Test
+	public void checkAStoreWithMetricsAndAnArchiveNeedsNoJournal() {
+		InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, StoreMetrics.recording(), archive);
+		
+		store.createGame("a", "b", FOOTBALL);
+		store.finishGame("a", "b");
+		
+		assertThat(finishSequencesOf(archive.getGamesOf("a")), contains(2L));
+		assertThat(store.getMetrics().getCount(FINISHED), is(1L));
+	}
+	
+	@Test
+	public void checkAStoreRebuiltFromAJournalOnlyArchivesTheGamesItFinishes() throws IOException {
+		Path directory = folder.newFolder().toPath();
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			store.createGame("a", "b", FOOTBALL);
+			store.finishGame("a", "b");
+			store.createGame("c", "d", FOOTBALL);
+			store.updateGameScore("c", 1, "d", 0);
+		}
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal, StoreMetrics.recording(), archive);
+			
+			assertThat(archive.size(), is(0));
+			
+			store.finishGame("c", "d");
+			
+			assertThat(finishSequencesOf(archive.getGamesOf("c")), contains(5L));
+			assertThat(archive.getGamesOf("c").get(0).getHomeTeamScore(), is(1));
+			assertThat(archive.getGamesOf("a").isEmpty(), is(true));
+			assertThat(store.getMetrics().getCount(FINISHED), is(1L));
+		}
+	}
+	
+	private static long bytesOfGame(int teamNameLength) {
+		return GameArchive.BYTES_PER_GAME + 2 * bytesOfTeam(teamNameLength);
+	}
+	
+	private static long bytesOfTeam(int nameLength) {
+		return GameArchive.BYTES_PER_TEAM + 2 * nameLength;
+	}
+	
+	private static List<Long> finishSequencesOf(List<ArchivedGame> games) {
+		return games.stream().map(ArchivedGame::getFinishSequence).collect(toList());
+	}
+}
@@ -0,0 +1,276 @@
+package com.scoreboard.store.journal;
+
+import static com.scoreboard.Sports.FOOTBALL;
+import static com.scoreboard.TwoTeamGameSportsFactory.GAME_FACTORY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.scoreboard.GameSummary;
+import com.scoreboard.Sports;
+import com.scoreboard.store.InMemoryTwoTeamsGameStore;
+
+@RunWith(JUnit4.class)
+public class GameJournalTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	@Test
+	public void checkReplayAfterReopeningReturnsTheAppendedRecordsInOrder() throws IOException {
+		Path directory = folder.newFolder().toPath();
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			journal.appendCreate(1L, "España", "a", FOOTBALL);
+			journal.appendUpdate(2L, "España", 1, "a", 0);
+			journal.appendFinish(3L, "España", "a");
+		}
+		
+		List<String> records = new ArrayList<>();
+		try (GameJournal journal = GameJournal.open(directory)) {
+			journal.recover(new RecordingListener(records));
+		}
+		
+		assertThat(records, contains("create 1 España a FOOTBALL", "update 2 España 1 a 0", "finish 3 España a"));
+	}
+	
+	@Test
+	public void checkRecordsAppendedBeforeAQuietPeriodAreSyncedWithinTheInterval() throws Exception {
+		try (GameJournal journal = GameJournal.open(folder.newFolder().toPath(), 0, 20, MILLISECONDS)) {
+			journal.appendCreate(1L, "a", "b", FOOTBALL);
+			journal.appendUpdate(2L, "a", 1, "b", 0);
+			
+			for (int attempt = 0; attempt < 200 && journal.getUnsyncedRecords() > 0; attempt++) {
+				Thread.sleep(10);
+			}
+			
+			assertThat(journal.getUnsyncedRecords(), is(0));
+		}
+	}
+	
+	@Test
+	public void checkAJournalWithoutASyncIntervalOnlySyncsWhenAsked() throws Exception {
+		try (GameJournal journal = GameJournal.open(folder.newFolder().toPath())) {
+			journal.appendCreate(1L, "a", "b", FOOTBALL);
+			Thread.sleep(50);
+			
+			assertThat(journal.getUnsyncedRecords(), is(1));
+			
+			journal.sync();
+			assertThat(journal.getUnsyncedRecords(), is(0));
+		}
+	}
+	
+	@Test
+	public void checkAppendBeyondTheInitialMappingGrowsTheJournal() throws IOException {
+		Path directory = folder.newFolder().toPath();
+		
+		try (GameJournal journal = GameJournal.open(directory, 10_000, 0, MILLISECONDS)) {
+			journal.appendCreate(1L, "a", "b", FOOTBALL);
+			for (int update = 0; update < 50_000; update++) {
+				journal.appendUpdate(update + 2L, "a", update % 2, "b", 0);
+			}
+		}
+		
+		List<String> records = new ArrayList<>();
+		try (GameJournal journal = GameJournal.open(directory)) {
+			journal.recover(new RecordingListener(records));
+		}
+		
+		assertThat(records.size(), is(50_001));
+		assertThat(records.get(50_000), is("update 50001 a 1 b 0"));
+	}
+	
+	@Test
+	public void checkStoreCreatedFromAJournalRebuildsTheLiveGamesAndKeepsJournaling() throws IOException {
+		Path directory = folder.newFolder().toPath();
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			store.createGame("a", "b", FOOTBALL);
+			store.createGame("c", "d", FOOTBALL);
+			store.createGame("e", "f", FOOTBALL);
+			store.updateGameScore("a", 1, "b", 0);
+			store.tryUpdateGameScore("c", 0, "d", 1);
+			store.tryUpdateGameScore("c", 5, "d", 1);
+			store.finishGame("e", "f");
+		}
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			assertThat(store.getGameSummaries(), contains(toString("c", 0, "d", 1), toString("a", 1, "b", 0)));
+			
+			store.updateGameScore("a", 2, "b", 0);
+			store.createGame("e", "f", FOOTBALL);
+		}
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			assertThat(store.getGameSummaries(), contains(toString("e", 0, "f", 0), toString("a", 2, "b", 0), toString("c", 0, "d", 1)));
+		}
+	}
+	
+	@Test
+	public void checkRecoveryAfterACheckpointOnlyReplaysTheJournalTail() throws IOException {
+		Path directory = folder.newFolder().toPath();
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			store.createGame("a", "b", FOOTBALL);
+			store.createGame("c", "d", FOOTBALL);
+			store.updateGameScore("a", 1, "b", 0);
+			
+			CheckpointReport checkpoint = store.checkpoint();
+			assertThat(checkpoint.getGames(), is(2));
+			
+			store.updateGameScore("c", 0, "d", 1);
+			store.finishGame("a", "b");
+			store.createGame("a", "e", FOOTBALL);
+		}
+		
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files.map(file -> file.getFileName().toString()).sorted().collect(toList()), 
+					contains("segment-0000000000000000002.journal", "snapshot-0000000000000000002.bin"));
+		}
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			assertThat(store.getRecoveryReport().getSnapshotGames(), is(2));
+			assertThat(store.getRecoveryReport().getReplayedRecords(), is(3));
+			assertThat(store.getGameSummaries(), contains(toString("a", 0, "e", 0), toString("c", 0, "d", 1)));
+			
+			store.createGame("b", "f", FOOTBALL);
+		}
+	}
+	
+	@Test
+	public void checkRecoveryReplaysTheRecordsAlreadyCoveredByTheSnapshotWithoutDuplicatingGames() throws IOException {
+		Path directory = folder.newFolder().toPath();
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			journal.checkpoint(() -> {
+				journal.appendCreate(1L, "a", "b", FOOTBALL);
+				journal.appendUpdate(2L, "a", 1, "b", 0);
+				return Arrays.asList(new GameSummary("a", 1, "b", 0, FOOTBALL, 2L, "a 1 - b 0"));
+			});
+			journal.appendUpdate(3L, "a", 2, "b", 0);
+		}
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			
+			assertThat(store.getGameSummaries(), contains(toString("a", 2, "b", 0)));
+			assertThat(store.getGameSummaryViews().get(0).getSequence(), is(3L));
+		}
+	}
+	
+	@Test(timeout = 30_000)
+	public void checkACheckpointCompletesWhileWritersKeepUpdating() throws Exception {
+		Path directory = folder.newFolder().toPath();
+		List<String> games;
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			InMemoryTwoTeamsGameStore store = new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal);
+			ExecutorService writers = Executors.newFixedThreadPool(4);
+			AtomicBoolean writing = new AtomicBoolean(true);
+			
+			for (int writer = 0; writer < 4; writer++) {
+				String homeTeam = "home" + writer;
+				String awayTeam = "away" + writer;
+				
+				store.createGame(homeTeam, awayTeam, FOOTBALL);
+				writers.submit(() -> {
+					for (int score = 1; writing.get(); score++) {
+						store.tryUpdateGameScore(homeTeam, score, awayTeam, 0);
+					}
+				});
+			}
+			
+			for (int checkpoint = 0; checkpoint < 20; checkpoint++) {
+				assertThat(store.checkpoint().getGames(), is(4));
+			}
+			
+			writing.set(false);
+			writers.shutdown();
+			assertThat(writers.awaitTermination(10, SECONDS), is(true));
+			games = store.getGameSummaries();
+		}
+		
+		try (GameJournal journal = GameJournal.open(directory)) {
+			assertThat(new InMemoryTwoTeamsGameStore(GAME_FACTORY, journal).getGameSummaries(), is(games));
+		}
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void checkCheckpointWithoutAJournalIsRejected() {
+		new InMemoryTwoTeamsGameStore(GAME_FACTORY).checkpoint();
+	}
+	
+	private String toString(String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+		StringBuilder game = new StringBuilder();
+		
+		game.append("Game [homeTeam=");
+		game.append("Team [teamName=" + homeTeam + "]");
+		game.append(", homeTeamScore=");
+		game.append(homeTeamScore);
+		game.append(", awayTeam=");
+		game.append("Team [teamName=" + awayTeam + "]");
+		game.append(", awayTeamScore=");
+		game.append(awayTeamScore);
+		game.append("]");
+		
+		return game.toString();
+	}
+	
+	private static final class RecordingListener implements JournalListener {
+		private final List<String> records;
+		
+		private RecordingListener(List<String> records) {
+			this.records = records;
+		}
+
+		@Override
+		public void onRestore(long sequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore, Sports sport) {
+			records.add("restore " + sequence + " " + homeTeamId + " " + homeTeamScore + " " + awayTeamId + " " + awayTeamScore + " " + sport);
+		}
+
+		@Override
+		public void onCreate(long sequence, String homeTeamId, String awayTeamId, Sports sport) {
+			records.add("create " + sequence + " " + homeTeamId + " " + awayTeamId + " " + sport);
+		}
+
+		@Override
+		public void onUpdate(long sequence, String homeTeamId, int homeTeamScore, String awayTeamId, int awayTeamScore) {
+			records.add("update " + sequence + " " + homeTeamId + " " + homeTeamScore + " " + awayTeamId + " " + awayTeamScore);
+		}
+
+		@Override
+		public void onFinish(long sequence, String homeTeamId, String awayTeamId) {
+			records.add("finish " + sequence + " " + homeTeamId + " " + awayTeamId);
+		}
+	}
+}
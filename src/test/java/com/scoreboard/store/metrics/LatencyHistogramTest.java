@@ -0,0 +1,44 @@
+package com.scoreboard.store.metrics;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LatencyHistogramTest {
+	@Test
+	public void checkEveryValueFallsInABucketWithinThreePercent() {
+		for (long value = 1; value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+			long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+			
+			assertThat(highest, allOf(greaterThanOrEqualTo(value), lessThanOrEqualTo(value + value / 32)));
+		}
+	}
+	
+	@Test
+	public void checkSnapshotReportsCountMaxAndPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		
+		for (long value = 1; value <= 1000; value++) {
+			histogram.record(value);
+		}
+		HistogramSnapshot snapshot = histogram.snapshot();
+		
+		assertThat(snapshot.getCount(), is(1000L));
+		assertThat(snapshot.getMax(), is(1000L));
+		assertThat(snapshot.getMean(), is(500.5));
+		assertThat(snapshot.getP50(), allOf(greaterThanOrEqualTo(500L), lessThanOrEqualTo(515L)));
+		assertThat(snapshot.getP99(), allOf(greaterThanOrEqualTo(990L), lessThanOrEqualTo(1000L)));
+	}
+	
+	@Test
+	public void checkEmptySnapshotHasNoPercentiles() {
+		assertThat(new LatencyHistogram().snapshot().getP99(), is(0L));
+	}
+}